@@ -0,0 +1,101 @@
+package com.mantledillusion.data.saman;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+import com.mantledillusion.data.saman.interfaces.Converter;
+
+/**
+ * Compares a processing hop through the {@link Processor} instances the
+ * {@link ProcessorRegistry} stores to one through the wrapping lambdas it used
+ * to store around every {@link Processor}.
+ * <p>
+ * Every benchmark invocation hops through several {@link Processor} types, so
+ * the hop's call site is megamorphic just as the one in
+ * {@link DefaultProcessingService}.
+ * <p>
+ * Run with <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=DispatchBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatchBenchmark {
+
+	private static final class Increment implements Converter<Integer, Integer> {
+
+		@Override
+		public Integer toTarget(Integer source, ProcessingDelegate context) {
+			return source + 1;
+		}
+	}
+
+	private static final class Twice implements Converter<Integer, Integer> {
+
+		@Override
+		public Integer toTarget(Integer source, ProcessingDelegate context) {
+			return source * 2;
+		}
+	}
+
+	private static final class Negate implements Converter<Integer, Integer> {
+
+		@Override
+		public Integer toTarget(Integer source, ProcessingDelegate context) {
+			return -source;
+		}
+	}
+
+	private static final class Halve implements Converter<Integer, Integer> {
+
+		@Override
+		public Integer toTarget(Integer source, ProcessingDelegate context) {
+			return source / 2;
+		}
+	}
+
+	private Processor<Integer, Integer>[] direct;
+	private Processor<Integer, Integer>[] wrapped;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setup() {
+		this.direct = new Processor[] { new Increment(), new Twice(), new Negate(), new Halve() };
+		this.wrapped = new Processor[this.direct.length];
+		for (int i = 0; i < this.direct.length; i++) {
+			Processor<Integer, Integer> processor = this.direct[i];
+			this.wrapped[i] = (source, context) -> processor.process(source, context);
+		}
+	}
+
+	@Benchmark
+	public Integer direct() throws Exception {
+		return hop(this.direct);
+	}
+
+	@Benchmark
+	public Integer wrapped() throws Exception {
+		return hop(this.wrapped);
+	}
+
+	private static Integer hop(Processor<Integer, Integer>[] processors) throws Exception {
+		Integer value = 1;
+		for (Processor<Integer, Integer> processor : processors) {
+			value = processor.process(value, null);
+		}
+		return value;
+	}
+}
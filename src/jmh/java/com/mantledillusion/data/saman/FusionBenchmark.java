@@ -0,0 +1,168 @@
+package com.mantledillusion.data.saman;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+
+/**
+ * Compares processing from a source over a throwaway intermediate to a target
+ * type by chaining two {@link Processor}s to fusing them using
+ * {@link ProcessorRegistry#identifyFusedProcessor(Class, Class, Class)}.
+ * <p>
+ * Run with <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=FusionBenchmark</code>;
+ * add JMH's <code>-prof gc</code> to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FusionBenchmark {
+
+	public static final class Source {
+
+		private final long[] values = new long[16];
+	}
+
+	public static final class Intermediate {
+
+		private final String[] labels;
+		private final long sum;
+
+		private Intermediate(String[] labels, long sum) {
+			this.labels = labels;
+			this.sum = sum;
+		}
+	}
+
+	public static final class Target {
+
+		private final int labelCount;
+		private final long sum;
+
+		private Target(int labelCount, long sum) {
+			this.labelCount = labelCount;
+			this.sum = sum;
+		}
+	}
+
+	public interface IntermediateSink {
+
+		void label(String label);
+
+		void sum(long sum);
+	}
+
+	public static final class TargetBuilder implements IntermediateSink {
+
+		private int labelCount;
+		private long sum;
+
+		@Override
+		public void label(String label) {
+			this.labelCount++;
+		}
+
+		@Override
+		public void sum(long sum) {
+			this.sum = sum;
+		}
+	}
+
+	public static final class IntermediateEmitter implements FusibleProcessors.Emitter<Source, Intermediate, IntermediateSink> {
+
+		@Override
+		public Intermediate process(Source source, ProcessingDelegate context) {
+			String[] labels = new String[source.values.length];
+			long sum = 0;
+			for (int i = 0; i < labels.length; i++) {
+				labels[i] = label(i);
+				sum += source.values[i];
+			}
+			return new Intermediate(labels, sum);
+		}
+
+		@Override
+		public void emit(Source source, IntermediateSink sink, ProcessingDelegate context) {
+			long sum = 0;
+			for (int i = 0; i < source.values.length; i++) {
+				sink.label(label(i));
+				sum += source.values[i];
+			}
+			sink.sum(sum);
+		}
+
+		private static String label(int index) {
+			return LABELS[index];
+		}
+	}
+
+	public static final class TargetCollector implements FusibleProcessors.Collector<Intermediate, Target, IntermediateSink> {
+
+		@Override
+		public Target process(Intermediate source, ProcessingDelegate context) {
+			return new Target(source.labels.length, source.sum);
+		}
+
+		@Override
+		public IntermediateSink createSink(ProcessingDelegate context) {
+			return new TargetBuilder();
+		}
+
+		@Override
+		public Target complete(IntermediateSink sink, ProcessingDelegate context) {
+			TargetBuilder builder = (TargetBuilder) sink;
+			return new Target(builder.labelCount, builder.sum);
+		}
+	}
+
+	public static final class TargetConverter implements Processor<Intermediate, Target> {
+
+		@Override
+		public Target process(Intermediate source, ProcessingDelegate context) {
+			return new Target(source.labels.length, source.sum);
+		}
+	}
+
+	private static final String[] LABELS = new String[16];
+	static {
+		for (int i = 0; i < LABELS.length; i++) {
+			LABELS[i] = "label" + i;
+		}
+	}
+
+	private Source source;
+	private Processor<Source, Target> chained;
+	private Processor<Source, Target> fused;
+
+	@Setup
+	public void setup() {
+		this.source = new Source();
+		this.chained = ProcessorRegistry.of(new IntermediateEmitter(), new TargetConverter())
+				.identifyFusedProcessor(Source.class, Intermediate.class, Target.class);
+		this.fused = ProcessorRegistry.of(new IntermediateEmitter(), new TargetCollector())
+				.identifyFusedProcessor(Source.class, Intermediate.class, Target.class);
+	}
+
+	@Benchmark
+	public Target chained() throws Exception {
+		return this.chained.process(this.source, null);
+	}
+
+	@Benchmark
+	public Target fused() throws Exception {
+		return this.fused.process(this.source, null);
+	}
+}
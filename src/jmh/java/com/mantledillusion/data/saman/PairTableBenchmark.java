@@ -0,0 +1,104 @@
+package com.mantledillusion.data.saman;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares looking up registered pairs in a {@link PairTable} to looking them
+ * up in the nested {@link Map}s the {@link ProcessorRegistry} used before.
+ * <p>
+ * Run with <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=PairTableBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PairTableBenchmark {
+
+	private static final Class<?>[] BASE_TYPES = { Object.class, String.class, Integer.class, Long.class,
+			Short.class, Byte.class, Double.class, Float.class, Character.class, Boolean.class, Number.class,
+			StringBuilder.class, Thread.class, Runnable.class, Map.class, List.class, HashMap.class,
+			ArrayList.class, Random.class, Class.class, Enum.class, TimeUnit.class, Exception.class,
+			RuntimeException.class, Error.class, Iterable.class, CharSequence.class, Comparable.class,
+			Cloneable.class, AutoCloseable.class, Process.class, System.class };
+
+	@Param({ "100", "2000" })
+	public int pairs;
+
+	private Class<?>[] sourceTypes;
+	private Class<?>[] targetTypes;
+	private Map<Class<?>, Map<Class<?>, Object>> nestedMaps;
+	private PairTable<Object> pairTable;
+
+	@Setup
+	public void setup() {
+		List<Class<?>> types = new ArrayList<>();
+		for (Class<?> baseType : BASE_TYPES) {
+			Class<?> type = baseType;
+			for (int depth = 0; depth < 8; depth++) {
+				types.add(type);
+				type = Array.newInstance(type, 0).getClass();
+			}
+		}
+
+		Random random = new Random(42);
+		this.sourceTypes = new Class<?>[this.pairs];
+		this.targetTypes = new Class<?>[this.pairs];
+		this.nestedMaps = new HashMap<>();
+		PairTable.Builder<Object> builder = new PairTable.Builder<>();
+		for (int i = 0; i < this.pairs;) {
+			Class<?> sourceType = types.get(random.nextInt(types.size()));
+			Class<?> targetType = types.get(random.nextInt(types.size()));
+			Object value = new Object();
+			if (builder.putIfAbsent(sourceType, targetType, value) == null) {
+				this.nestedMaps.computeIfAbsent(targetType, t -> new HashMap<>()).put(sourceType, value);
+				this.sourceTypes[i] = sourceType;
+				this.targetTypes[i] = targetType;
+				i++;
+			}
+		}
+		this.pairTable = builder.build();
+	}
+
+	@Benchmark
+	public int nestedMaps() {
+		int found = 0;
+		for (int i = 0; i < this.pairs; i++) {
+			Map<Class<?>, Object> sourceTypeValues = this.nestedMaps.get(this.targetTypes[i]);
+			if (sourceTypeValues != null && sourceTypeValues.get(this.sourceTypes[i]) != null) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	@Benchmark
+	public int pairTable() {
+		int found = 0;
+		for (int i = 0; i < this.pairs; i++) {
+			if (this.pairTable.get(this.sourceTypes[i], this.targetTypes[i]) != null) {
+				found++;
+			}
+		}
+		return found;
+	}
+}
@@ -0,0 +1,120 @@
+package com.mantledillusion.data.saman;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+import com.mantledillusion.data.saman.interfaces.Converter;
+
+/**
+ * Compares the cold construction of a {@link ProcessorRegistry} using
+ * {@link ProcessorRegistry#of(java.util.Collection)} to using
+ * {@link ProcessorRegistry#ofParallel(java.util.Collection)}.
+ * <p>
+ * Every measurement is taken in a fresh JVM, so the generic type parameters of
+ * the {@link Processor}s have not been determined before.
+ * <p>
+ * Run with <code>mvn -Pbenchmark test-compile exec:exec -Dbenchmark=RegistryConstructionBenchmark</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class RegistryConstructionBenchmark {
+
+	static class C01 implements Converter<String, Integer> { @Override public Integer toTarget(String s, ProcessingDelegate c) { return null; } }
+	static class C02 implements Converter<String, Long> { @Override public Long toTarget(String s, ProcessingDelegate c) { return null; } }
+	static class C03 implements Converter<String, Double> { @Override public Double toTarget(String s, ProcessingDelegate c) { return null; } }
+	static class C04 implements Converter<String, Boolean> { @Override public Boolean toTarget(String s, ProcessingDelegate c) { return null; } }
+	static class C05 implements Converter<String, Character> { @Override public Character toTarget(String s, ProcessingDelegate c) { return null; } }
+	static class C06 implements Converter<String, StringBuilder> { @Override public StringBuilder toTarget(String s, ProcessingDelegate c) { return null; } }
+	static class C07 implements Converter<String, BigDecimal> { @Override public BigDecimal toTarget(String s, ProcessingDelegate c) { return null; } }
+	static class C08 implements Converter<Integer, String> { @Override public String toTarget(Integer s, ProcessingDelegate c) { return null; } }
+	static class C09 implements Converter<Integer, Long> { @Override public Long toTarget(Integer s, ProcessingDelegate c) { return null; } }
+	static class C10 implements Converter<Integer, Double> { @Override public Double toTarget(Integer s, ProcessingDelegate c) { return null; } }
+	static class C11 implements Converter<Integer, Boolean> { @Override public Boolean toTarget(Integer s, ProcessingDelegate c) { return null; } }
+	static class C12 implements Converter<Integer, Character> { @Override public Character toTarget(Integer s, ProcessingDelegate c) { return null; } }
+	static class C13 implements Converter<Integer, StringBuilder> { @Override public StringBuilder toTarget(Integer s, ProcessingDelegate c) { return null; } }
+	static class C14 implements Converter<Integer, BigDecimal> { @Override public BigDecimal toTarget(Integer s, ProcessingDelegate c) { return null; } }
+	static class C15 implements Converter<Long, String> { @Override public String toTarget(Long s, ProcessingDelegate c) { return null; } }
+	static class C16 implements Converter<Long, Integer> { @Override public Integer toTarget(Long s, ProcessingDelegate c) { return null; } }
+	static class C17 implements Converter<Long, Double> { @Override public Double toTarget(Long s, ProcessingDelegate c) { return null; } }
+	static class C18 implements Converter<Long, Boolean> { @Override public Boolean toTarget(Long s, ProcessingDelegate c) { return null; } }
+	static class C19 implements Converter<Long, Character> { @Override public Character toTarget(Long s, ProcessingDelegate c) { return null; } }
+	static class C20 implements Converter<Long, StringBuilder> { @Override public StringBuilder toTarget(Long s, ProcessingDelegate c) { return null; } }
+	static class C21 implements Converter<Long, BigDecimal> { @Override public BigDecimal toTarget(Long s, ProcessingDelegate c) { return null; } }
+	static class C22 implements Converter<Double, String> { @Override public String toTarget(Double s, ProcessingDelegate c) { return null; } }
+	static class C23 implements Converter<Double, Integer> { @Override public Integer toTarget(Double s, ProcessingDelegate c) { return null; } }
+	static class C24 implements Converter<Double, Long> { @Override public Long toTarget(Double s, ProcessingDelegate c) { return null; } }
+	static class C25 implements Converter<Double, Boolean> { @Override public Boolean toTarget(Double s, ProcessingDelegate c) { return null; } }
+	static class C26 implements Converter<Double, Character> { @Override public Character toTarget(Double s, ProcessingDelegate c) { return null; } }
+	static class C27 implements Converter<Double, StringBuilder> { @Override public StringBuilder toTarget(Double s, ProcessingDelegate c) { return null; } }
+	static class C28 implements Converter<Double, BigDecimal> { @Override public BigDecimal toTarget(Double s, ProcessingDelegate c) { return null; } }
+	static class C29 implements Converter<Boolean, String> { @Override public String toTarget(Boolean s, ProcessingDelegate c) { return null; } }
+	static class C30 implements Converter<Boolean, Integer> { @Override public Integer toTarget(Boolean s, ProcessingDelegate c) { return null; } }
+	static class C31 implements Converter<Boolean, Long> { @Override public Long toTarget(Boolean s, ProcessingDelegate c) { return null; } }
+	static class C32 implements Converter<Boolean, Double> { @Override public Double toTarget(Boolean s, ProcessingDelegate c) { return null; } }
+	static class C33 implements Converter<Boolean, Character> { @Override public Character toTarget(Boolean s, ProcessingDelegate c) { return null; } }
+	static class C34 implements Converter<Boolean, StringBuilder> { @Override public StringBuilder toTarget(Boolean s, ProcessingDelegate c) { return null; } }
+	static class C35 implements Converter<Boolean, BigDecimal> { @Override public BigDecimal toTarget(Boolean s, ProcessingDelegate c) { return null; } }
+	static class C36 implements Converter<Character, String> { @Override public String toTarget(Character s, ProcessingDelegate c) { return null; } }
+	static class C37 implements Converter<Character, Integer> { @Override public Integer toTarget(Character s, ProcessingDelegate c) { return null; } }
+	static class C38 implements Converter<Character, Long> { @Override public Long toTarget(Character s, ProcessingDelegate c) { return null; } }
+	static class C39 implements Converter<Character, Double> { @Override public Double toTarget(Character s, ProcessingDelegate c) { return null; } }
+	static class C40 implements Converter<Character, Boolean> { @Override public Boolean toTarget(Character s, ProcessingDelegate c) { return null; } }
+	static class C41 implements Converter<Character, StringBuilder> { @Override public StringBuilder toTarget(Character s, ProcessingDelegate c) { return null; } }
+	static class C42 implements Converter<Character, BigDecimal> { @Override public BigDecimal toTarget(Character s, ProcessingDelegate c) { return null; } }
+	static class C43 implements Converter<StringBuilder, String> { @Override public String toTarget(StringBuilder s, ProcessingDelegate c) { return null; } }
+	static class C44 implements Converter<StringBuilder, Integer> { @Override public Integer toTarget(StringBuilder s, ProcessingDelegate c) { return null; } }
+	static class C45 implements Converter<StringBuilder, Long> { @Override public Long toTarget(StringBuilder s, ProcessingDelegate c) { return null; } }
+	static class C46 implements Converter<StringBuilder, Double> { @Override public Double toTarget(StringBuilder s, ProcessingDelegate c) { return null; } }
+	static class C47 implements Converter<StringBuilder, Boolean> { @Override public Boolean toTarget(StringBuilder s, ProcessingDelegate c) { return null; } }
+	static class C48 implements Converter<StringBuilder, Character> { @Override public Character toTarget(StringBuilder s, ProcessingDelegate c) { return null; } }
+	static class C49 implements Converter<StringBuilder, BigDecimal> { @Override public BigDecimal toTarget(StringBuilder s, ProcessingDelegate c) { return null; } }
+	static class C50 implements Converter<BigDecimal, String> { @Override public String toTarget(BigDecimal s, ProcessingDelegate c) { return null; } }
+	static class C51 implements Converter<BigDecimal, Integer> { @Override public Integer toTarget(BigDecimal s, ProcessingDelegate c) { return null; } }
+	static class C52 implements Converter<BigDecimal, Long> { @Override public Long toTarget(BigDecimal s, ProcessingDelegate c) { return null; } }
+	static class C53 implements Converter<BigDecimal, Double> { @Override public Double toTarget(BigDecimal s, ProcessingDelegate c) { return null; } }
+	static class C54 implements Converter<BigDecimal, Boolean> { @Override public Boolean toTarget(BigDecimal s, ProcessingDelegate c) { return null; } }
+	static class C55 implements Converter<BigDecimal, Character> { @Override public Character toTarget(BigDecimal s, ProcessingDelegate c) { return null; } }
+	static class C56 implements Converter<BigDecimal, StringBuilder> { @Override public StringBuilder toTarget(BigDecimal s, ProcessingDelegate c) { return null; } }
+
+	private List<Processor<?, ?>> processors;
+
+	@Setup
+	public void setup() {
+		this.processors = Arrays.asList(
+				new C01(), new C02(), new C03(), new C04(), new C05(), new C06(), new C07(), new C08(), new
+				C09(), new C10(), new C11(), new C12(), new C13(), new C14(), new C15(), new C16(), new C17(),
+				new C18(), new C19(), new C20(), new C21(), new C22(), new C23(), new C24(), new C25(), new
+				C26(), new C27(), new C28(), new C29(), new C30(), new C31(), new C32(), new C33(), new C34(),
+				new C35(), new C36(), new C37(), new C38(), new C39(), new C40(), new C41(), new C42(), new
+				C43(), new C44(), new C45(), new C46(), new C47(), new C48(), new C49(), new C50(), new C51(),
+				new C52(), new C53(), new C54(), new C55(), new C56());
+	}
+
+	@Benchmark
+	public ProcessorRegistry serial() {
+		return ProcessorRegistry.of(this.processors);
+	}
+
+	@Benchmark
+	public ProcessorRegistry parallel() {
+		return ProcessorRegistry.ofParallel(this.processors);
+	}
+}
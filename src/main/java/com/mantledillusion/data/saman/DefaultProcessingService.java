@@ -1,11 +1,14 @@
 package com.mantledillusion.data.saman;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.stream.Collectors;
 
+import com.mantledillusion.data.saman.exception.NoProcessorException;
 import com.mantledillusion.data.saman.exception.ProcessingException;
 import com.mantledillusion.data.saman.exception.ProcessorException;
 
@@ -14,30 +17,339 @@ import com.mantledillusion.data.saman.exception.ProcessorException;
  */
 public class DefaultProcessingService implements ProcessingService {
 
+	private static final class Interception {
+
+		private final WeakReference<ProcessorRegistry> registry;
+		private final ProcessingInterceptor[] interceptors;
+		private final PairCache<Processor<?, ?>> processors = new PairCache<>();
+		private final PairCache<Processor<?, ?>> genericProcessors = new PairCache<>();
+
+		private Interception(ProcessorRegistry registry, ProcessingInterceptor[] interceptors) {
+			this.registry = new WeakReference<>(registry);
+			this.interceptors = interceptors;
+		}
+	}
+
 	private final ProcessorRegistry processorRegistry;
+	private final MutableProcessorRegistry mutableProcessorRegistry;
 	private boolean wrapRuntimeExceptions = true;
+	private boolean captureStackTraces = true;
+	private final Map<ProcessorRegistry, Interception> interceptions = new WeakHashMap<>();
+	private volatile ProcessingInterceptor[] interceptors;
+	private volatile Interception interception;
 
 	public DefaultProcessingService(ProcessorRegistry processorRegistry) {
 		if (processorRegistry == null) {
 			throw new IllegalArgumentException("Cannot create a processing service with a null processor registry");
 		}
 		this.processorRegistry = processorRegistry;
+		this.mutableProcessorRegistry = null;
 	}
 
-	private <SourceType, TargetType> TargetType execute(ProcessingService.Processor<SourceType, TargetType> processor,
-			SourceType source, ProcessingContext context) {
-		try {
-			return processor.process(source, new ProcessingDelegate(this, context));
-		} catch (RuntimeException e) {
-			if (this.wrapRuntimeExceptions) {
-				throw new ProcessorException(e);
+	/**
+	 * Constructor.
+	 * <p>
+	 * Every processing started on the service uses the {@link ProcessorRegistry}
+	 * that is current in the given {@link MutableProcessorRegistry} at the time
+	 * the processing starts. All hops of that processing made through the
+	 * {@link ProcessingDelegate} use the same {@link ProcessorRegistry}, even if
+	 * the {@link MutableProcessorRegistry} changes in the meantime.
+	 *
+	 * @param mutableProcessorRegistry
+	 *            The registry to retrieve {@link Processor}s from; might
+	 *            <b>not</b> be null.
+	 */
+	public DefaultProcessingService(MutableProcessorRegistry mutableProcessorRegistry) {
+		if (mutableProcessorRegistry == null) {
+			throw new IllegalArgumentException("Cannot create a processing service with a null processor registry");
+		}
+		this.processorRegistry = null;
+		this.mutableProcessorRegistry = mutableProcessorRegistry;
+	}
+
+	private ProcessorRegistry registryOf(ProcessingContext context) {
+		if (context instanceof ProcessingDelegate) {
+			ProcessorRegistry registry = ((ProcessingDelegate) context).getRegistry(this);
+			if (registry != null) {
+				return registry;
 			}
-			throw e;
+		}
+		return this.mutableProcessorRegistry == null ? this.processorRegistry
+				: this.mutableProcessorRegistry.getRegistry();
+	}
+
+	/**
+	 * Warms up the {@link ProcessorRegistry} this service currently processes
+	 * with.
+	 *
+	 * @param pairs
+	 *            Additional pairs to warm up; might be empty or contain nulls.
+	 * @return A new {@link WarmUpReport}, never null
+	 * @see ProcessorRegistry#warmUp(Collection)
+	 */
+	public WarmUpReport warmUp(WarmUpReport.Pair... pairs) {
+		return registryOf(null).warmUp(pairs);
+	}
+
+	/**
+	 * Warms up the {@link ProcessorRegistry} this service currently processes
+	 * with.
+	 *
+	 * @param pairs
+	 *            Additional pairs to warm up; might be null, empty or contain
+	 *            nulls.
+	 * @return A new {@link WarmUpReport}, never null
+	 * @see ProcessorRegistry#warmUp(Collection)
+	 */
+	public WarmUpReport warmUp(Collection<WarmUpReport.Pair> pairs) {
+		return registryOf(null).warmUp(pairs);
+	}
+
+	private ProcessingPlan<?, ?> planOf(ProcessingContext context) {
+		return context instanceof ProcessingDelegate ? ((ProcessingDelegate) context).getPlan(this) : null;
+	}
+
+	private ProcessingDelegate delegateOf(ProcessorRegistry registry, ProcessingContext context) {
+		return new ProcessingDelegate(this, registry, planOf(context), context);
+	}
+
+	private <SourceType, TargetType> Processor<SourceType, TargetType> identifyProcessor(ProcessorRegistry registry,
+			Class<SourceType> sourceType, Class<TargetType> targetType, ProcessingContext context) {
+		ProcessingPlan<?, ?> plan = planOf(context);
+		return plan != null && plan.getRegistry() == registry ? plan.identifyHop(sourceType, targetType)
+				: identifyInterceptedProcessor(registry, sourceType, targetType);
+	}
+
+	// ############################################################################################################
+	// ############################################### INTERCEPTORS ###############################################
+	// ############################################################################################################
+
+	/**
+	 * Adds an interceptor to this service.
+	 * <p>
+	 * The {@link Processor} of every pair is intercepted by all interceptors in
+	 * the order they were added, so the first interceptor added is the
+	 * outermost. {@link ProcessingPlan}s compiled before the interceptor was
+	 * added keep the {@link Processor}s they have recorded.
+	 * <p>
+	 * Note that the interceptors are only asked for {@link Processor}s of pairs;
+	 * the processing of {@link Enum}s by name or ordinal is not intercepted.
+	 *
+	 * @param interceptor
+	 *            The interceptor to add; might <b>not</b> be null.
+	 */
+	public void addInterceptor(ProcessingInterceptor interceptor) {
+		if (interceptor == null) {
+			throw new IllegalArgumentException("Cannot add a null interceptor");
+		}
+		synchronized (this.interceptions) {
+			ProcessingInterceptor[] interceptors = this.interceptors == null ? new ProcessingInterceptor[0]
+					: this.interceptors;
+			interceptors = Arrays.copyOf(interceptors, interceptors.length + 1);
+			interceptors[interceptors.length - 1] = interceptor;
+			this.interceptors = interceptors;
+			this.interceptions.clear();
+			this.interception = null;
+		}
+	}
+
+	private Interception interceptionOf(ProcessorRegistry registry) {
+		// THE LAST INTERCEPTION USED IS KEPT APART, SO THE COMMON CASE OF A SINGLE REGISTRY DOES NOT NEED TO LOCK
+		Interception interception = this.interception;
+		if (interception != null && interception.registry.get() == registry) {
+			return interception;
+		} else if (this.interceptors == null) {
+			return null;
+		}
+
+		// EVERY REGISTRY SNAPSHOT KEEPS ITS INTERCEPTION, SO SWITCHING BETWEEN SNAPSHOTS DOES NOT DISCARD ANY
+		synchronized (this.interceptions) {
+			interception = this.interceptions.computeIfAbsent(registry,
+					key -> new Interception(key, this.interceptors));
+			this.interception = interception;
+			return interception;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	<SourceType, TargetType> Processor<SourceType, TargetType> identifyInterceptedProcessor(
+			ProcessorRegistry registry, Class<SourceType> sourceType, Class<TargetType> targetType)
+			throws NoProcessorException {
+		Interception interception = interceptionOf(registry);
+		if (interception == null) {
+			return registry.identifyProcessor(sourceType, targetType);
+		}
+
+		ProcessingInterceptor[] interceptors = interception.interceptors;
+		return (Processor<SourceType, TargetType>) interception.processors.computeIfAbsent(sourceType, targetType,
+				(s, t) -> intercept(interceptors, sourceType, targetType,
+						registry.identifyProcessor(sourceType, targetType)));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <SourceType, TargetType> Processor<SourceType, TargetType> identifyInterceptedProcessor(
+			ProcessorRegistry registry, Class<SourceType> sourceType, TypeToken<TargetType> targetType)
+			throws NoProcessorException {
+		Interception interception = interceptionOf(registry);
+		if (interception == null) {
+			return registry.identifyProcessor((Type) sourceType, targetType.getType());
+		}
+
+		Processor<?, ?> processor = interception.genericProcessors.get(sourceType, targetType.getType());
+		if (processor == null) {
+			processor = interception.genericProcessors.putIfAbsent(sourceType, targetType.getType(),
+					intercept(interception.interceptors, sourceType, targetType.getRawType(),
+							registry.identifyProcessor((Type) sourceType, targetType.getType())));
+		}
+		return (Processor<SourceType, TargetType>) processor;
+	}
+
+	private <SourceType, TargetType> Processor<SourceType, TargetType> intercept(Class<SourceType> sourceType,
+			Class<TargetType> targetType, Processor<SourceType, TargetType> processor) {
+		ProcessingInterceptor[] interceptors = this.interceptors;
+		return interceptors == null ? processor : intercept(interceptors, sourceType, targetType, processor);
+	}
+
+	private static <SourceType, TargetType> Processor<SourceType, TargetType> intercept(
+			ProcessingInterceptor[] interceptors, Class<SourceType> sourceType, Class<TargetType> targetType,
+			Processor<SourceType, TargetType> processor) {
+		// THE FIRST INTERCEPTOR ADDED HAS TO BE THE OUTERMOST, SO IT HAS TO INTERCEPT LAST
+		for (int i = interceptors.length - 1; i >= 0; i--) {
+			processor = interceptors[i].intercept(sourceType, targetType, processor);
+			if (processor == null) {
+				throw new ProcessingException("The interceptor '" + interceptors[i].getClass().getSimpleName()
+						+ "' returned a null processor for the pair '" + sourceType.getSimpleName() + "'->'"
+						+ targetType.getSimpleName() + "'.");
+			}
+		}
+		return processor;
+	}
+
+	// ############################################################################################################
+	// ################################################## PLANS ###################################################
+	// ############################################################################################################
+
+	/**
+	 * Compiles a {@link ProcessingPlan} for processing from the given source to
+	 * the given target type.
+	 * <p>
+	 * The {@link Processor} of the root pair is resolved immediately; the
+	 * {@link Processor}s of all hops are recorded by the plan while processing
+	 * with it.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 * @param <TargetType>
+	 *            The target type to process to
+	 * @param sourceType
+	 *            The source type to process from; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to process to; might <b>not</b> be null.
+	 * @return A new {@link ProcessingPlan}, never null
+	 * @throws NoProcessorException
+	 *             If there is no {@link Processor} for the given pair.
+	 */
+	public <SourceType, TargetType> ProcessingPlan<SourceType, TargetType> compile(Class<SourceType> sourceType,
+			Class<TargetType> targetType) throws NoProcessorException {
+		if (sourceType == null) {
+			throw new ProcessingException("Cannot compile a plan using a null source type.");
+		} else if (targetType == null) {
+			throw new ProcessingException("Cannot compile a plan using a null target type.");
+		}
+
+		ProcessorRegistry registry = registryOf(null);
+		return new ProcessingPlan<>(this, registry, sourceType, null, targetType,
+				sourceType.equals(targetType) ? null : identifyInterceptedProcessor(registry, sourceType, targetType));
+	}
+
+	/**
+	 * Compiles a {@link ProcessingPlan} for processing from the given source
+	 * over the given intermediate to the given target type.
+	 * <p>
+	 * The root {@link Processor} of the plan is the one identified by
+	 * {@link ProcessorRegistry#identifyFusedProcessor(Class, Class, Class)}, so
+	 * the intermediate object is not materialized if the {@link Processor}s of
+	 * both pairs support it.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 * @param <IntermediateType>
+	 *            The intermediate type to process over
+	 * @param <TargetType>
+	 *            The target type to process to
+	 * @param sourceType
+	 *            The source type to process from; might <b>not</b> be null.
+	 * @param intermediateType
+	 *            The intermediate type to process over; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to process to; might <b>not</b> be null.
+	 * @return A new {@link ProcessingPlan}, never null
+	 * @throws NoProcessorException
+	 *             If there is no {@link Processor} for one of the pairs.
+	 */
+	public <SourceType, IntermediateType, TargetType> ProcessingPlan<SourceType, TargetType> compile(
+			Class<SourceType> sourceType, Class<IntermediateType> intermediateType, Class<TargetType> targetType)
+			throws NoProcessorException {
+		if (sourceType == null) {
+			throw new ProcessingException("Cannot compile a plan using a null source type.");
+		} else if (intermediateType == null) {
+			throw new ProcessingException("Cannot compile a plan using a null intermediate type.");
+		} else if (targetType == null) {
+			throw new ProcessingException("Cannot compile a plan using a null target type.");
+		}
+
+		ProcessorRegistry registry = registryOf(null);
+		return new ProcessingPlan<>(this, registry, sourceType, intermediateType, targetType, intercept(sourceType,
+				targetType, registry.identifyFusedProcessor(sourceType, intermediateType, targetType)));
+	}
+
+	@SuppressWarnings("unchecked")
+	<SourceType, TargetType> TargetType process(ProcessingPlan<SourceType, TargetType> plan, SourceType source,
+			ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		if (plan.getRegistry() != registry) {
+			if (plan.getIntermediateType() != null) {
+				return execute(registry, plan.getSourceType(), plan.getTargetType(),
+						intercept(plan.getSourceType(), plan.getTargetType(), registry.identifyFusedProcessor(
+								plan.getSourceType(), plan.getIntermediateType(), plan.getTargetType())),
+						source, context);
+			}
+			return processStrictly(registry, plan.getSourceType(), source, plan.getTargetType(), context);
+		} else if (plan.getProcessor() == null) {
+			return (TargetType) source;
+		}
+
+		try {
+			return plan.getProcessor().process(source, new ProcessingDelegate(this, registry, plan, context));
 		} catch (Exception e) {
-			throw new ProcessorException(e);
+			throw wrap(e, plan.getSourceType(), plan.getTargetType());
 		}
 	}
 
+	private <SourceType, TargetType> TargetType execute(ProcessorRegistry registry, Class<?> sourceType,
+			Class<?> targetType, ProcessingService.Processor<SourceType, TargetType> processor, SourceType source,
+			ProcessingContext context) {
+		try {
+			return processor.process(source, delegateOf(registry, context));
+		} catch (Exception e) {
+			throw wrap(e, sourceType, targetType);
+		}
+	}
+
+	private RuntimeException wrap(Exception e, Class<?> sourceType, Class<?> targetType) {
+		ProcessorException wrapper;
+		if (e instanceof ProcessorException) {
+			// THE EXCEPTION HAS BEEN WRAPPED BY A DEEPER HOP ALREADY
+			wrapper = (ProcessorException) e;
+		} else if (e instanceof RuntimeException && !this.wrapRuntimeExceptions) {
+			return (RuntimeException) e;
+		} else {
+			wrapper = new ProcessorException(e, this.captureStackTraces);
+		}
+		wrapper.addHop(sourceType, targetType);
+		return wrapper;
+	}
+
 	// ############################################################################################################
 	// ############################################# SINGLE INSTANCES #############################################
 	// ############################################################################################################
@@ -66,10 +378,50 @@ public class DefaultProcessingService implements ProcessingService {
 		this.wrapRuntimeExceptions = wrapRuntimeExceptions;
 	}
 
+	/**
+	 * Returns whether {@link ProcessorException}s capture the stack trace of
+	 * where they are created.
+	 * 
+	 * @return True if stack traces are captured, false otherwise
+	 */
+	public boolean doCaptureStackTraces() {
+		return captureStackTraces;
+	}
+
+	/**
+	 * Sets whether {@link ProcessorException}s should capture the stack trace of
+	 * where they are created.
+	 * <p>
+	 * Capturing the stack trace is the most expensive part of creating an
+	 * exception; where failing processings are common, turning it off makes them
+	 * considerably cheaper. The wrapped {@link Exception} still has its stack
+	 * trace and {@link ProcessorException#getHops()} still describes the hops
+	 * the failing processing took.
+	 * 
+	 * @param captureStackTraces
+	 *            True if stack traces should be captured, false otherwise.
+	 */
+	public void setCaptureStackTraces(boolean captureStackTraces) {
+		this.captureStackTraces = captureStackTraces;
+	}
+
 	@Override
-	@SuppressWarnings("unchecked")
 	public <SourceType, TargetType> TargetType processStrictly(Class<SourceType> sourceType, SourceType source,
 			Class<TargetType> targetType, ProcessingContext context) {
+		return processStrictly(registryOf(context), sourceType, source, targetType, context);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <SourceType, TargetType> TargetType process(ProcessorRegistry registry, SourceType source,
+			Class<TargetType> targetType, ProcessingContext context) {
+		return source == null ? null : processStrictly(registry, (Class<SourceType>) source.getClass(), source,
+				targetType, context);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <SourceType, TargetType> TargetType processStrictly(ProcessorRegistry registry,
+			Class<SourceType> sourceType, SourceType source, Class<TargetType> targetType,
+			ProcessingContext context) {
 		if (sourceType == null) {
 			throw new ProcessingException("Cannot process using a null source type.");
 		} else if (targetType == null) {
@@ -80,7 +432,8 @@ public class DefaultProcessingService implements ProcessingService {
 			return (TargetType) source;
 		}
 
-		return execute(this.processorRegistry.identifyProcessor(sourceType, targetType), source, context);
+		return execute(registry, sourceType, targetType, identifyProcessor(registry, sourceType, targetType, context),
+				source, context);
 	}
 
 	// ############################################################################################################
@@ -91,21 +444,23 @@ public class DefaultProcessingService implements ProcessingService {
 	public <SourceType, SourceCollectionType extends Collection<SourceType>, TargetCollectionType extends Collection<TargetType>, TargetType> TargetCollectionType processInto(
 			SourceCollectionType source, TargetCollectionType target, Class<TargetType> targetType,
 			ProcessingContext context) {
-		return processInto(source, target, context, (sourceElement, ctx) -> process(sourceElement, targetType, ctx));
+		ProcessorRegistry registry = registryOf(context);
+		return processInto(registry, source, target, context, (sourceElement, ctx) -> process(registry, sourceElement, targetType, ctx));
 	}
 
 	@Override
 	public <SourceType, SourceCollectionType extends Collection<SourceType>, TargetCollectionType extends Collection<TargetType>, TargetType> TargetCollectionType processStrictlyInto(
 			Class<SourceType> sourceType, SourceCollectionType source, TargetCollectionType target,
 			Class<TargetType> targetType, ProcessingContext context) {
-		return processInto(source, target, context, (sourceElement, ctx) -> processStrictly(sourceType, sourceElement, targetType, ctx));
+		ProcessorRegistry registry = registryOf(context);
+		return processInto(registry, source, target, context, (sourceElement, ctx) -> processStrictly(registry, sourceType, sourceElement, targetType, ctx));
 	}
 
 	private <SourceType, SourceCollectionType extends Collection<SourceType>, TargetCollectionType extends Collection<TargetType>, TargetType> TargetCollectionType processInto(
-			SourceCollectionType source, TargetCollectionType target, ProcessingContext context,
-			BiFunction<SourceType, ProcessingContext, TargetType> callback) {
+			ProcessorRegistry registry, SourceCollectionType source, TargetCollectionType target,
+			ProcessingContext context, BiFunction<SourceType, ProcessingContext, TargetType> callback) {
 		if (source != null && target != null) {
-			context = new ProcessingContext(context);
+			context = delegateOf(registry, context);
 			for (SourceType sourceElement : source) {
 				target.add(callback.apply(sourceElement, context));
 			}
@@ -117,7 +472,8 @@ public class DefaultProcessingService implements ProcessingService {
 	public <SourceType, SourceCollectionType extends Collection<SourceType>, TargetCollectionType extends Collection<TargetType>, TargetType> TargetCollectionType processIntoAligning(
 			SourceCollectionType source, TargetCollectionType target, Class<TargetType> targetType,
 			BiPredicate<SourceType, TargetType> equalityPredicate, ProcessingContext context) {
-		return processIntoAligning(source, target, equalityPredicate, context, (sourceElement, ctx) -> process(sourceElement, targetType, ctx));
+		ProcessorRegistry registry = registryOf(context);
+		return processIntoAligning(registry, source, target, equalityPredicate, context, (sourceElement, ctx) -> process(registry, sourceElement, targetType, ctx));
 	}
 
 	@Override
@@ -125,11 +481,12 @@ public class DefaultProcessingService implements ProcessingService {
 			Class<SourceType> sourceType, SourceCollectionType source, TargetCollectionType target,
 			Class<TargetType> targetType, BiPredicate<SourceType, TargetType> equalityPredicate,
 			ProcessingContext context) {
-		return processIntoAligning(source, target, equalityPredicate, context, (sourceElement, ctx) -> processStrictly(sourceType, sourceElement, targetType, ctx));
+		ProcessorRegistry registry = registryOf(context);
+		return processIntoAligning(registry, source, target, equalityPredicate, context, (sourceElement, ctx) -> processStrictly(registry, sourceType, sourceElement, targetType, ctx));
 	}
 
 	private <SourceType, SourceCollectionType extends Collection<SourceType>, TargetCollectionType extends Collection<TargetType>, TargetType> TargetCollectionType processIntoAligning(
-			SourceCollectionType source, TargetCollectionType target,
+			ProcessorRegistry registry, SourceCollectionType source, TargetCollectionType target,
 			BiPredicate<SourceType, TargetType> equalityPredicate, ProcessingContext context,
 			BiFunction<SourceType, ProcessingContext, TargetType> callback) {
 		if (equalityPredicate == null) {
@@ -154,13 +511,13 @@ public class DefaultProcessingService implements ProcessingService {
 					}
 				}
 
-				context = new ProcessingContext(context);
+				context = delegateOf(registry, context);
 				Iterator<TargetType> targetElementIterator = target.iterator();
 				while (targetElementIterator.hasNext()) {
 					TargetType targetElement = targetElementIterator.next();
 					if (alignedElements.containsKey(targetElement)) {
 						TargetType processedTargetElement = callback.apply(alignedElements.get(targetElement),
-								new ProcessingContext(context).set(targetElement));
+								delegateOf(registry, context).set(targetElement));
 						if (targetElement != processedTargetElement) {
 							throw new ProcessingException("Unable to align collection; processor was expected to map " +
 									"onto and return target element instance '" + targetElement + "' provided by in the " +
@@ -189,10 +546,11 @@ public class DefaultProcessingService implements ProcessingService {
 			Map<SourceTypeKey, SourceTypeValue> source, Map<TargetTypeKey, TargetTypeValue> target,
 			Class<TargetTypeKey> targetTypeKey, Class<TargetTypeValue> targetTypeValue, ProcessingContext context) {
 		if (source != null && target != null) {
-			context = new ProcessingContext(context);
+			ProcessorRegistry registry = registryOf(context);
+			context = delegateOf(registry, context);
 			for (Entry<SourceTypeKey, SourceTypeValue> entry : source.entrySet()) {
-				target.put(process(entry.getKey(), targetTypeKey, context),
-						process(entry.getValue(), targetTypeValue, context));
+				target.put(process(registry, entry.getKey(), targetTypeKey, context),
+						process(registry, entry.getValue(), targetTypeValue, context));
 			}
 		}
 		return target;
@@ -204,10 +562,11 @@ public class DefaultProcessingService implements ProcessingService {
 			Map<SourceTypeKey, SourceTypeValue> source, Map<TargetTypeKey, TargetTypeValue> target,
 			Class<TargetTypeKey> targetTypeKey, Class<TargetTypeValue> targetTypeValue, ProcessingContext context) {
 		if (source != null && target != null) {
-			context = new ProcessingContext(context);
+			ProcessorRegistry registry = registryOf(context);
+			context = delegateOf(registry, context);
 			for (Entry<SourceTypeKey, SourceTypeValue> entry : source.entrySet()) {
-				target.put(processStrictly(sourceTypeKey, entry.getKey(), targetTypeKey, context),
-						processStrictly(sourceTypeValue, entry.getValue(), targetTypeValue, context));
+				target.put(processStrictly(registry, sourceTypeKey, entry.getKey(), targetTypeKey, context),
+						processStrictly(registry, sourceTypeValue, entry.getValue(), targetTypeValue, context));
 			}
 		}
 		return target;
@@ -228,7 +587,9 @@ public class DefaultProcessingService implements ProcessingService {
 			return null;
 		} else {
 			Class<SourceType> sourceType = source.getDeclaringClass();
-			return execute(this.processorRegistry.identifyNamedProcessor(sourceType, targetType), source, context);
+			ProcessorRegistry registry = registryOf(context);
+			return execute(registry, sourceType, targetType, registry.identifyNamedProcessor(sourceType, targetType),
+					source, context);
 		}
 	}
 
@@ -243,7 +604,399 @@ public class DefaultProcessingService implements ProcessingService {
 			return null;
 		} else {
 			Class<SourceType> sourceType = source.getDeclaringClass();
-			return execute(this.processorRegistry.identifyOrdinalProcessor(sourceType, targetType), source, context);
+			ProcessorRegistry registry = registryOf(context);
+			return execute(registry, sourceType, targetType, registry.identifyOrdinalProcessor(sourceType, targetType),
+					source, context);
 		}
 	}
+
+	// ############################################################################################################
+	// ################################################ PRIMITIVES ################################################
+	// ############################################################################################################
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <TargetType> TargetType processInt(int source, Class<TargetType> targetType, ProcessingContext context) {
+		if (targetType == null) {
+			throw new ProcessingException("Cannot process using a null target type.");
+		} else if (targetType == Integer.class || targetType == int.class) {
+			return (TargetType) Integer.valueOf(processToInt(source, context));
+		}
+
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Integer, TargetType> processor = identifyProcessor(registry, Integer.class, targetType, context);
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.FromInt) {
+				return ((PrimitiveProcessors.FromInt<TargetType>) processor).processInt(source, delegate);
+			}
+			return processor.process(source, delegate);
+		} catch (Exception e) {
+			throw wrap(e, Integer.class, targetType);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <TargetType> TargetType processLong(long source, Class<TargetType> targetType, ProcessingContext context) {
+		if (targetType == null) {
+			throw new ProcessingException("Cannot process using a null target type.");
+		} else if (targetType == Long.class || targetType == long.class) {
+			return (TargetType) Long.valueOf(processToLong(source, context));
+		}
+
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Long, TargetType> processor = identifyProcessor(registry, Long.class, targetType, context);
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.FromLong) {
+				return ((PrimitiveProcessors.FromLong<TargetType>) processor).processLong(source, delegate);
+			}
+			return processor.process(source, delegate);
+		} catch (Exception e) {
+			throw wrap(e, Long.class, targetType);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <TargetType> TargetType processDouble(double source, Class<TargetType> targetType, ProcessingContext context) {
+		if (targetType == null) {
+			throw new ProcessingException("Cannot process using a null target type.");
+		} else if (targetType == Double.class || targetType == double.class) {
+			return (TargetType) Double.valueOf(processToDouble(source, context));
+		}
+
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Double, TargetType> processor = identifyProcessor(registry, Double.class, targetType, context);
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.FromDouble) {
+				return ((PrimitiveProcessors.FromDouble<TargetType>) processor).processDouble(source, delegate);
+			}
+			return processor.process(source, delegate);
+		} catch (Exception e) {
+			throw wrap(e, Double.class, targetType);
+		}
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <SourceType> int processStrictlyToInt(Class<SourceType> sourceType, SourceType source,
+			ProcessingContext context) {
+		if (sourceType == null) {
+			throw new ProcessingException("Cannot process using a null source type.");
+		} else if (sourceType == Integer.class || sourceType == int.class) {
+			return processToInt(PrimitiveProcessors.requireTarget((Integer) source, int.class), context);
+		}
+
+		ProcessorRegistry registry = registryOf(context);
+		Processor<SourceType, Integer> processor = identifyProcessor(registry, sourceType, Integer.class, context);
+		Integer target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.ToInt) {
+				return ((PrimitiveProcessors.ToInt<SourceType>) processor).processToInt(source, delegate);
+			}
+			target = processor.process(source, delegate);
+		} catch (Exception e) {
+			throw wrap(e, sourceType, Integer.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, int.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <SourceType> long processStrictlyToLong(Class<SourceType> sourceType, SourceType source,
+			ProcessingContext context) {
+		if (sourceType == null) {
+			throw new ProcessingException("Cannot process using a null source type.");
+		} else if (sourceType == Long.class || sourceType == long.class) {
+			return processToLong(PrimitiveProcessors.requireTarget((Long) source, long.class), context);
+		}
+
+		ProcessorRegistry registry = registryOf(context);
+		Processor<SourceType, Long> processor = identifyProcessor(registry, sourceType, Long.class, context);
+		Long target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.ToLong) {
+				return ((PrimitiveProcessors.ToLong<SourceType>) processor).processToLong(source, delegate);
+			}
+			target = processor.process(source, delegate);
+		} catch (Exception e) {
+			throw wrap(e, sourceType, Long.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, long.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <SourceType> double processStrictlyToDouble(Class<SourceType> sourceType, SourceType source,
+			ProcessingContext context) {
+		if (sourceType == null) {
+			throw new ProcessingException("Cannot process using a null source type.");
+		} else if (sourceType == Double.class || sourceType == double.class) {
+			return processToDouble(PrimitiveProcessors.requireTarget((Double) source, double.class), context);
+		}
+
+		ProcessorRegistry registry = registryOf(context);
+		Processor<SourceType, Double> processor = identifyProcessor(registry, sourceType, Double.class, context);
+		Double target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.ToDouble) {
+				return ((PrimitiveProcessors.ToDouble<SourceType>) processor).processToDouble(source, delegate);
+			}
+			target = processor.process(source, delegate);
+		} catch (Exception e) {
+			throw wrap(e, sourceType, Double.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, double.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public int processToInt(int source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Integer, Integer> processor = identifySameTypeProcessor(registry, Integer.class, context);
+		if (processor == null) {
+			return source;
+		}
+
+		Integer target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.IntToInt) {
+				return ((PrimitiveProcessors.IntToInt) processor).processIntToInt(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToInt) {
+				return ((PrimitiveProcessors.ToInt<Integer>) processor).processToInt(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromInt) {
+				target = ((PrimitiveProcessors.FromInt<Integer>) processor).processInt(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Integer.class, Integer.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, int.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public int processToInt(long source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Long, Integer> processor = identifyProcessor(registry, Long.class, Integer.class, context);
+		Integer target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.LongToInt) {
+				return ((PrimitiveProcessors.LongToInt) processor).processLongToInt(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToInt) {
+				return ((PrimitiveProcessors.ToInt<Long>) processor).processToInt(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromLong) {
+				target = ((PrimitiveProcessors.FromLong<Integer>) processor).processLong(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Long.class, Integer.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, int.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public int processToInt(double source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Double, Integer> processor = identifyProcessor(registry, Double.class, Integer.class, context);
+		Integer target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.DoubleToInt) {
+				return ((PrimitiveProcessors.DoubleToInt) processor).processDoubleToInt(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToInt) {
+				return ((PrimitiveProcessors.ToInt<Double>) processor).processToInt(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromDouble) {
+				target = ((PrimitiveProcessors.FromDouble<Integer>) processor).processDouble(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Double.class, Integer.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, int.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public long processToLong(int source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Integer, Long> processor = identifyProcessor(registry, Integer.class, Long.class, context);
+		Long target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.IntToLong) {
+				return ((PrimitiveProcessors.IntToLong) processor).processIntToLong(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToLong) {
+				return ((PrimitiveProcessors.ToLong<Integer>) processor).processToLong(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromInt) {
+				target = ((PrimitiveProcessors.FromInt<Long>) processor).processInt(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Integer.class, Long.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, long.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public long processToLong(long source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Long, Long> processor = identifySameTypeProcessor(registry, Long.class, context);
+		if (processor == null) {
+			return source;
+		}
+
+		Long target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.LongToLong) {
+				return ((PrimitiveProcessors.LongToLong) processor).processLongToLong(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToLong) {
+				return ((PrimitiveProcessors.ToLong<Long>) processor).processToLong(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromLong) {
+				target = ((PrimitiveProcessors.FromLong<Long>) processor).processLong(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Long.class, Long.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, long.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public long processToLong(double source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Double, Long> processor = identifyProcessor(registry, Double.class, Long.class, context);
+		Long target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.DoubleToLong) {
+				return ((PrimitiveProcessors.DoubleToLong) processor).processDoubleToLong(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToLong) {
+				return ((PrimitiveProcessors.ToLong<Double>) processor).processToLong(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromDouble) {
+				target = ((PrimitiveProcessors.FromDouble<Long>) processor).processDouble(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Double.class, Long.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, long.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public double processToDouble(int source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Integer, Double> processor = identifyProcessor(registry, Integer.class, Double.class, context);
+		Double target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.IntToDouble) {
+				return ((PrimitiveProcessors.IntToDouble) processor).processIntToDouble(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToDouble) {
+				return ((PrimitiveProcessors.ToDouble<Integer>) processor).processToDouble(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromInt) {
+				target = ((PrimitiveProcessors.FromInt<Double>) processor).processInt(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Integer.class, Double.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, double.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public double processToDouble(long source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Long, Double> processor = identifyProcessor(registry, Long.class, Double.class, context);
+		Double target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.LongToDouble) {
+				return ((PrimitiveProcessors.LongToDouble) processor).processLongToDouble(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToDouble) {
+				return ((PrimitiveProcessors.ToDouble<Long>) processor).processToDouble(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromLong) {
+				target = ((PrimitiveProcessors.FromLong<Double>) processor).processLong(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Long.class, Double.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, double.class);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public double processToDouble(double source, ProcessingContext context) {
+		ProcessorRegistry registry = registryOf(context);
+		Processor<Double, Double> processor = identifySameTypeProcessor(registry, Double.class, context);
+		if (processor == null) {
+			return source;
+		}
+
+		Double target;
+		try {
+			ProcessingDelegate delegate = delegateOf(registry, context);
+			if (processor instanceof PrimitiveProcessors.DoubleToDouble) {
+				return ((PrimitiveProcessors.DoubleToDouble) processor).processDoubleToDouble(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.ToDouble) {
+				return ((PrimitiveProcessors.ToDouble<Double>) processor).processToDouble(source, delegate);
+			} else if (processor instanceof PrimitiveProcessors.FromDouble) {
+				target = ((PrimitiveProcessors.FromDouble<Double>) processor).processDouble(source, delegate);
+			} else {
+				target = processor.process(source, delegate);
+			}
+		} catch (Exception e) {
+			throw wrap(e, Double.class, Double.class);
+		}
+		return PrimitiveProcessors.requireTarget(target, double.class);
+	}
+
+	private <Type> Processor<Type, Type> identifySameTypeProcessor(ProcessorRegistry registry, Class<Type> type,
+			ProcessingContext context) {
+		// ONLY A PROCESSOR REGISTERED FOR THE EXACT PAIR REPLACES THE IDENTITY, NOT ONE RESOLVED ALONG SUPER TYPES
+		return registry.isRegistered(type, type) ? identifyProcessor(registry, type, type, context) : null;
+	}
+
+	// ############################################################################################################
+	// ############################################## GENERIC TYPES ###############################################
+	// ############################################################################################################
+
+	@Override
+	public <SourceType, TargetType> TargetType processGenericStrictly(Class<SourceType> sourceType, SourceType source,
+			TypeToken<TargetType> targetType, ProcessingContext context) {
+		if (sourceType == null) {
+			throw new ProcessingException("Cannot process using a null source type.");
+		} else if (targetType == null) {
+			throw new ProcessingException("Cannot process using a null target type.");
+		} else if (targetType.getType() instanceof Class) {
+			return processStrictly(sourceType, source, targetType.getRawType(), context);
+		}
+
+		ProcessorRegistry registry = registryOf(context);
+		return execute(registry, sourceType, targetType.getRawType(),
+				identifyInterceptedProcessor(registry, sourceType, targetType), source, context);
+	}
 }
@@ -0,0 +1,94 @@
+package com.mantledillusion.data.saman;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+
+/**
+ * {@link Processor} specializations that allow a chain of two
+ * {@link Processor}s from a source over an intermediate to a target type to
+ * be fused, so the intermediate object is never materialized.
+ * <p>
+ * The field level form of an intermediate type is a sink type declared by the
+ * user; an {@link Emitter} writes the fields the intermediate object would
+ * have into such a sink, while a {@link Collector} provides a sink that
+ * builds the target object directly from these fields. If the
+ * {@link Processor} from the source to the intermediate type is an
+ * {@link Emitter} and the one from the intermediate to the target type is a
+ * {@link Collector} of the same sink type, the {@link ProcessorRegistry}
+ * fuses them; otherwise it degrades to chaining them.
+ *
+ * @see ProcessorRegistry#identifyFusedProcessor(Class, Class, Class)
+ */
+public final class FusibleProcessors {
+
+	private FusibleProcessors() {
+	}
+
+	/**
+	 * {@link Processor} that is able to emit the fields of the intermediate
+	 * object it creates into a sink instead of creating it.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 * @param <IntermediateType>
+	 *            The intermediate type to process to
+	 * @param <SinkType>
+	 *            The field level form of the intermediate type
+	 */
+	public interface Emitter<SourceType, IntermediateType, SinkType> extends Processor<SourceType, IntermediateType> {
+
+		/**
+		 * Writes the fields of the intermediate object the given source would be
+		 * processed into to the given sink.
+		 *
+		 * @param source
+		 *            The source to process; might <b>not</b> be null.
+		 * @param sink
+		 *            The sink to write to; might <b>not</b> be null.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		void emit(SourceType source, SinkType sink, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} that is able to build its target object from the fields
+	 * of an intermediate object written into a sink instead of the intermediate
+	 * object itself.
+	 *
+	 * @param <IntermediateType>
+	 *            The intermediate type to process from
+	 * @param <TargetType>
+	 *            The target type to process to
+	 * @param <SinkType>
+	 *            The field level form of the intermediate type
+	 */
+	public interface Collector<IntermediateType, TargetType, SinkType> extends Processor<IntermediateType, TargetType> {
+
+		/**
+		 * Creates a new sink to write the fields of an intermediate object to.
+		 *
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return A new sink, never null
+		 */
+		SinkType createSink(ProcessingDelegate context);
+
+		/**
+		 * Builds the target object from the fields written to the given sink.
+		 *
+		 * @param sink
+		 *            The sink that has been written to; might <b>not</b> be null.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target object, might be null
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		TargetType complete(SinkType sink, ProcessingDelegate context) throws Exception;
+	}
+}
@@ -0,0 +1,172 @@
+package com.mantledillusion.data.saman;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+
+/**
+ * {@link Processor} that is only responsible for the source objects of its
+ * source/target type pair that pass its guard.
+ * <p>
+ * Multiple {@link GuardedProcessor}s can be registered for the same pair of a
+ * {@link ProcessorRegistry}, as well as up to one regular {@link Processor}
+ * that processes all source objects none of the guards pass. The
+ * {@link ProcessorRegistry} compiles them into a single decision table per
+ * pair:
+ * <ul>
+ * <li>Keyed guards that share the same key extractor instance are hashed by
+ * their key, so the key is extracted from a source object once and the
+ * responsible {@link Processor} is found with a single lookup; groups of
+ * different extractors are tried in the order they were registered.</li>
+ * <li>Predicate guards are tested afterwards, in the order they were
+ * registered.</li>
+ * <li>The regular {@link Processor} is used if no guard passes; if there is
+ * none, a {@link com.mantledillusion.data.saman.exception.ProcessingException}
+ * is thrown.</li>
+ * </ul>
+ * Null source objects never pass a guard.
+ *
+ * @param <SourceType>
+ *            The source type to process from
+ * @param <TargetType>
+ *            The target type to process to
+ */
+public final class GuardedProcessor<SourceType, TargetType> implements TypedProcessor<SourceType, TargetType> {
+
+	private final Class<SourceType> sourceType;
+	private final Class<TargetType> targetType;
+	private final Predicate<? super SourceType> predicate;
+	private final Function<? super SourceType, ?> keyExtractor;
+	private final Object key;
+	private final Processor<SourceType, TargetType> processor;
+
+	private GuardedProcessor(Class<SourceType> sourceType, Class<TargetType> targetType,
+			Predicate<? super SourceType> predicate, Function<? super SourceType, ?> keyExtractor, Object key,
+			Processor<SourceType, TargetType> processor) {
+		if (sourceType == null || targetType == null) {
+			throw new IllegalArgumentException("Cannot guard a processor of a null source or target type");
+		} else if (processor == null) {
+			throw new IllegalArgumentException("Cannot guard a null processor");
+		}
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+		this.predicate = predicate;
+		this.keyExtractor = keyExtractor;
+		this.key = key;
+		this.processor = processor;
+	}
+
+	@Override
+	public Class<SourceType> getSourceType() {
+		return this.sourceType;
+	}
+
+	@Override
+	public Class<TargetType> getTargetType() {
+		return this.targetType;
+	}
+
+	Predicate<? super SourceType> getPredicate() {
+		return this.predicate;
+	}
+
+	Function<? super SourceType, ?> getKeyExtractor() {
+		return this.keyExtractor;
+	}
+
+	Object getKey() {
+		return this.key;
+	}
+
+	Processor<SourceType, TargetType> getProcessor() {
+		return this.processor;
+	}
+
+	/**
+	 * Returns whether the given source passes the guard of this processor.
+	 *
+	 * @param source
+	 *            The source to check; might be null.
+	 * @return True if the guard passes, false otherwise
+	 */
+	public boolean accepts(SourceType source) {
+		if (source == null) {
+			return false;
+		} else if (this.predicate != null) {
+			return this.predicate.test(source);
+		}
+		Object key = this.keyExtractor.apply(source);
+		return key == null ? this.key == null : key.equals(this.key);
+	}
+
+	@Override
+	public TargetType process(SourceType source, ProcessingDelegate context) throws Exception {
+		return this.processor.process(source, context);
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link GuardedProcessor} responsible for all source objects
+	 * the given predicate passes.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 * @param <TargetType>
+	 *            The target type to process to
+	 * @param sourceType
+	 *            The source type to process from; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to process to; might <b>not</b> be null.
+	 * @param predicate
+	 *            The predicate to guard with; might <b>not</b> be null.
+	 * @param processor
+	 *            The {@link Processor} to guard; might <b>not</b> be null.
+	 * @return A new {@link GuardedProcessor} instance, never null
+	 */
+	public static <SourceType, TargetType> GuardedProcessor<SourceType, TargetType> when(Class<SourceType> sourceType,
+			Class<TargetType> targetType, Predicate<? super SourceType> predicate,
+			Processor<SourceType, TargetType> processor) {
+		if (predicate == null) {
+			throw new IllegalArgumentException("Cannot guard a processor with a null predicate");
+		}
+		return new GuardedProcessor<>(sourceType, targetType, predicate, null, null, processor);
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link GuardedProcessor} responsible for all source objects
+	 * the given key extractor extracts a key equal to the given key from.
+	 * <p>
+	 * Use the same key extractor instance for all {@link GuardedProcessor}s of a
+	 * pair that dispatch on the same key, so the {@link ProcessorRegistry} is
+	 * able to hash them into a single lookup.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 * @param <TargetType>
+	 *            The target type to process to
+	 * @param sourceType
+	 *            The source type to process from; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to process to; might <b>not</b> be null.
+	 * @param keyExtractor
+	 *            The function extracting the key of a source object; might
+	 *            <b>not</b> be null.
+	 * @param key
+	 *            The key to guard with; might be null.
+	 * @param processor
+	 *            The {@link Processor} to guard; might <b>not</b> be null.
+	 * @return A new {@link GuardedProcessor} instance, never null
+	 */
+	public static <SourceType, TargetType> GuardedProcessor<SourceType, TargetType> on(Class<SourceType> sourceType,
+			Class<TargetType> targetType, Function<? super SourceType, ?> keyExtractor, Object key,
+			Processor<SourceType, TargetType> processor) {
+		if (keyExtractor == null) {
+			throw new IllegalArgumentException("Cannot guard a processor with a null key extractor");
+		}
+		return new GuardedProcessor<>(sourceType, targetType, null, keyExtractor, key, processor);
+	}
+}
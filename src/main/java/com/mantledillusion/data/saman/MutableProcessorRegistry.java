@@ -0,0 +1,272 @@
+package com.mantledillusion.data.saman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import com.mantledillusion.data.saman.ProcessingService.BiProcessor;
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+import com.mantledillusion.data.saman.exception.AmbiguousProcessorException;
+import com.mantledillusion.data.saman.exception.ProcessorTypeException;
+
+/**
+ * A registry for {@link Processor}s that can be added, replaced and removed at
+ * runtime.
+ * <p>
+ * Every change builds a new immutable {@link ProcessorRegistry} snapshot that
+ * replaces the current one atomically; retrieving the current snapshot using
+ * {@link #getRegistry()} never blocks. Changes are serialized among each other,
+ * and a change that would cause an invalid {@link ProcessorRegistry} leaves the
+ * current snapshot untouched.
+ * <p>
+ * A {@link DefaultProcessingService} created for a
+ * {@link MutableProcessorRegistry} uses one snapshot for all hops of a
+ * processing, so a processing that is in progress while a change happens is
+ * not affected by it.
+ */
+public class MutableProcessorRegistry {
+
+	private final Object changeLock = new Object();
+	private volatile List<Processor<?, ?>> processors;
+	private volatile ProcessorRegistry registry;
+	private volatile boolean composeProcessors = false;
+	private volatile boolean resolveTargetSubTypes = false;
+
+	private MutableProcessorRegistry(List<Processor<?, ?>> processors) {
+		this.processors = processors;
+		this.registry = ProcessorRegistry.of(processors);
+	}
+
+	/**
+	 * Returns whether the {@link ProcessorRegistry} snapshots compose
+	 * {@link Processor}s.
+	 *
+	 * @return True if {@link Processor}s are composed, false otherwise
+	 * @see ProcessorRegistry#doComposeProcessors()
+	 */
+	public boolean doComposeProcessors() {
+		return this.composeProcessors;
+	}
+
+	/**
+	 * Sets whether the {@link ProcessorRegistry} snapshots compose
+	 * {@link Processor}s, replacing the current snapshot by one that does.
+	 *
+	 * @param composeProcessors
+	 *            True if {@link Processor}s should be composed, false
+	 *            otherwise.
+	 * @see ProcessorRegistry#withComposeProcessors(boolean)
+	 */
+	public void setComposeProcessors(boolean composeProcessors) {
+		synchronized (this.changeLock) {
+			this.composeProcessors = composeProcessors;
+			swap(this.processors);
+		}
+	}
+
+	/**
+	 * Returns whether the {@link ProcessorRegistry} snapshots resolve target sub
+	 * types.
+	 *
+	 * @return True if target sub types are resolved, false otherwise
+	 * @see ProcessorRegistry#doResolveTargetSubTypes()
+	 */
+	public boolean doResolveTargetSubTypes() {
+		return this.resolveTargetSubTypes;
+	}
+
+	/**
+	 * Sets whether the {@link ProcessorRegistry} snapshots resolve target sub
+	 * types, replacing the current snapshot by one that does.
+	 *
+	 * @param resolveTargetSubTypes
+	 *            True if target sub types should be resolved, false otherwise.
+	 * @see ProcessorRegistry#withResolveTargetSubTypes(boolean)
+	 */
+	public void setResolveTargetSubTypes(boolean resolveTargetSubTypes) {
+		synchronized (this.changeLock) {
+			this.resolveTargetSubTypes = resolveTargetSubTypes;
+			swap(this.processors);
+		}
+	}
+
+	/**
+	 * Returns the current {@link ProcessorRegistry} snapshot.
+	 *
+	 * @return The current snapshot, never null
+	 */
+	public ProcessorRegistry getRegistry() {
+		return this.registry;
+	}
+
+	/**
+	 * Returns the {@link Processor}s of the current snapshot.
+	 *
+	 * @return An unmodifiable {@link List} of {@link Processor}s, never null
+	 */
+	public List<Processor<?, ?>> getProcessors() {
+		return this.processors;
+	}
+
+	/**
+	 * Adds the given {@link Processor}.
+	 *
+	 * @param processor
+	 *            The {@link Processor} to add; might <b>not</b> be null.
+	 * @throws AmbiguousProcessorException
+	 *             If there already is a {@link Processor} for one of the
+	 *             source/target type pairs the given {@link Processor} processes.
+	 * @throws ProcessorTypeException
+	 *             If the generic type parameters of the given {@link Processor}
+	 *             are not fully defined.
+	 */
+	public void add(Processor<?, ?> processor) {
+		checkProcessor(processor);
+		synchronized (this.changeLock) {
+			List<Processor<?, ?>> processors = new ArrayList<>(this.processors);
+			processors.add(processor);
+			swap(processors);
+		}
+	}
+
+	/**
+	 * Adds the given {@link Processor}, removing all {@link Processor}s that
+	 * process any of the source/target type pairs the given {@link Processor}
+	 * processes.
+	 * <p>
+	 * Note that a removed {@link BiProcessor} is removed for both of its
+	 * directions.
+	 *
+	 * @param processor
+	 *            The {@link Processor} to add; might <b>not</b> be null.
+	 * @throws ProcessorTypeException
+	 *             If the generic type parameters of the given {@link Processor}
+	 *             are not fully defined.
+	 */
+	public void replace(Processor<?, ?> processor) {
+		checkProcessor(processor);
+		Class<?>[] types = ProcessorRegistry.getProcessorTypes(processor);
+		synchronized (this.changeLock) {
+			List<Processor<?, ?>> processors = this.processors.stream()
+					.filter(registered -> !processes(registered, types[0], types[1])
+							&& !(processor instanceof BiProcessor && processes(registered, types[1], types[0])))
+					.collect(Collectors.toCollection(ArrayList::new));
+			processors.add(processor);
+			swap(processors);
+		}
+	}
+
+	/**
+	 * Removes the given {@link Processor}.
+	 *
+	 * @param processor
+	 *            The {@link Processor} instance to remove; might be null.
+	 * @return True if the {@link Processor} was registered and has been removed,
+	 *         false otherwise
+	 */
+	public boolean remove(Processor<?, ?> processor) {
+		synchronized (this.changeLock) {
+			List<Processor<?, ?>> processors = this.processors.stream()
+					.filter(registered -> registered != processor)
+					.collect(Collectors.toList());
+			if (processors.size() == this.processors.size()) {
+				return false;
+			}
+			swap(processors);
+			return true;
+		}
+	}
+
+	/**
+	 * Removes the {@link Processor} processing the given source/target type
+	 * pair.
+	 * <p>
+	 * Note that a removed {@link BiProcessor} is removed for both of its
+	 * directions.
+	 *
+	 * @param sourceType
+	 *            The exact source type of the pair; might <b>not</b> be null.
+	 * @param targetType
+	 *            The exact target type of the pair; might <b>not</b> be null.
+	 * @return True if there was a {@link Processor} that has been removed, false
+	 *         otherwise
+	 */
+	public boolean remove(Class<?> sourceType, Class<?> targetType) {
+		if (sourceType == null || targetType == null) {
+			throw new IllegalArgumentException("Cannot remove a processor for a null source or target type");
+		}
+		synchronized (this.changeLock) {
+			List<Processor<?, ?>> processors = this.processors.stream()
+					.filter(registered -> !processes(registered, sourceType, targetType))
+					.collect(Collectors.toList());
+			if (processors.size() == this.processors.size()) {
+				return false;
+			}
+			swap(processors);
+			return true;
+		}
+	}
+
+	private static void checkProcessor(Processor<?, ?> processor) {
+		if (processor == null) {
+			throw new IllegalArgumentException("Cannot register a null processor");
+		}
+	}
+
+	private static boolean processes(Processor<?, ?> processor, Class<?> sourceType, Class<?> targetType) {
+		Class<?>[] types = ProcessorRegistry.getProcessorTypes(processor);
+		return (types[0] == sourceType && types[1] == targetType)
+				|| (processor instanceof BiProcessor && types[1] == sourceType && types[0] == targetType);
+	}
+
+	private void swap(List<Processor<?, ?>> processors) {
+		ProcessorRegistry registry = ProcessorRegistry.of(processors)
+				.withComposeProcessors(this.composeProcessors)
+				.withResolveTargetSubTypes(this.resolveTargetSubTypes);
+		this.processors = Collections.unmodifiableList(processors);
+		this.registry = registry;
+	}
+
+	// ############################################################################################################
+	// ############################################# SERVICE CREATION #############################################
+	// ############################################################################################################
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link MutableProcessorRegistry} of the given
+	 * {@link Processor}s.
+	 *
+	 * @param processors
+	 *            The {@link Processor}s to initially build the
+	 *            {@link MutableProcessorRegistry} from; might be empty or contain
+	 *            nulls.
+	 * @return A new {@link MutableProcessorRegistry} instance, never null
+	 */
+	public static MutableProcessorRegistry of(Processor<?, ?>... processors) {
+		return of(Arrays.asList(processors));
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link MutableProcessorRegistry} of the given
+	 * {@link Processor}s.
+	 *
+	 * @param processors
+	 *            The {@link Processor}s to initially build the
+	 *            {@link MutableProcessorRegistry} from; might be null, empty or
+	 *            contain nulls.
+	 * @return A new {@link MutableProcessorRegistry} instance, never null
+	 */
+	public static MutableProcessorRegistry of(Collection<? extends Processor<?, ?>> processors) {
+		return new MutableProcessorRegistry(processors == null ? Collections.emptyList()
+				: Collections.unmodifiableList(processors.stream()
+						.filter(Objects::nonNull)
+						.collect(Collectors.toList())));
+	}
+}
@@ -0,0 +1,210 @@
+package com.mantledillusion.data.saman;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+/**
+ * A concurrent cache mapping source/target type pairs to values.
+ * <p>
+ * Reads are lock-free. Both types of a pair are only referenced weakly, so
+ * caching a pair does not prevent the pair's {@link ClassLoader}s from being
+ * collected; entries of collected types are expunged during subsequent writes.
+ * <p>
+ * {@link Class}es are compared by identity; any other {@link Type}, such as a
+ * parameterized type, is compared by equality, so equal instances share the
+ * entry that lives as long as the instance it has been cached with.
+ * <p>
+ * Note that values are referenced strongly; a value referencing one of its
+ * own key's types will keep that type alive.
+ *
+ * @param <V>
+ *            The type of the cached values
+ */
+public final class PairCache<V> {
+
+	private static abstract class Key {
+
+		private final int hash;
+
+		private Key(Type sourceType, Type targetType) {
+			this.hash = 31 * sourceType.hashCode() + targetType.hashCode();
+		}
+
+		abstract Type sourceType();
+
+		abstract Type targetType();
+
+		@Override
+		public final int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public final boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			Type sourceType = sourceType();
+			return sourceType != null && this.hash == other.hash && equals(sourceType, other.sourceType())
+					&& equals(targetType(), other.targetType());
+		}
+
+		private static boolean equals(Type type, Type other) {
+			return type == other || (type != null && !(type instanceof Class) && type.equals(other));
+		}
+	}
+
+	private static final class LookupKey extends Key {
+
+		private final Type sourceType;
+		private final Type targetType;
+
+		private LookupKey(Type sourceType, Type targetType) {
+			super(sourceType, targetType);
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		@Override
+		Type sourceType() {
+			return this.sourceType;
+		}
+
+		@Override
+		Type targetType() {
+			return this.targetType;
+		}
+	}
+
+	private static final class WeakKey extends Key {
+
+		private final KeyReference sourceType;
+		private final KeyReference targetType;
+
+		private WeakKey(Type sourceType, Type targetType, ReferenceQueue<Type> queue) {
+			super(sourceType, targetType);
+			this.sourceType = new KeyReference(sourceType, this, queue);
+			this.targetType = new KeyReference(targetType, this, queue);
+		}
+
+		@Override
+		Type sourceType() {
+			return this.sourceType.get();
+		}
+
+		@Override
+		Type targetType() {
+			return this.targetType.get();
+		}
+	}
+
+	private static final class KeyReference extends WeakReference<Type> {
+
+		private final WeakKey key;
+
+		private KeyReference(Type referent, WeakKey key, ReferenceQueue<Type> queue) {
+			super(referent, queue);
+			this.key = key;
+		}
+	}
+
+	private final ConcurrentHashMap<Key, V> cache = new ConcurrentHashMap<>();
+	private final ReferenceQueue<Type> queue = new ReferenceQueue<>();
+
+	/**
+	 * Returns the value cached for the given pair.
+	 *
+	 * @param sourceType
+	 *            The source type of the pair; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type of the pair; might <b>not</b> be null.
+	 * @return The cached value, null if there is none
+	 */
+	public V get(Type sourceType, Type targetType) {
+		return this.cache.get(new LookupKey(sourceType, targetType));
+	}
+
+	/**
+	 * Caches the given value for the given pair, unless there already is one.
+	 *
+	 * @param sourceType
+	 *            The source type of the pair; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type of the pair; might <b>not</b> be null.
+	 * @param value
+	 *            The value to cache; might <b>not</b> be null.
+	 * @return The value cached for the pair after the call, never null
+	 */
+	public V putIfAbsent(Type sourceType, Type targetType, V value) {
+		expunge();
+		V present = this.cache.putIfAbsent(new WeakKey(sourceType, targetType, this.queue), value);
+		return present == null ? value : present;
+	}
+
+	/**
+	 * Returns the value cached for the given pair, computing and caching it if
+	 * there is none yet.
+	 * <p>
+	 * The value of a pair is computed at most once; concurrent callers for the
+	 * same pair wait for the computation, while other pairs remain unaffected.
+	 *
+	 * @param sourceType
+	 *            The source type of the pair; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type of the pair; might <b>not</b> be null.
+	 * @param function
+	 *            The function computing the value of the pair; might <b>not</b>
+	 *            be null and might <b>not</b> return null.
+	 * @return The value cached for the pair after the call, never null
+	 */
+	public <T extends Type> V computeIfAbsent(T sourceType, T targetType,
+			BiFunction<? super T, ? super T, ? extends V> function) {
+		V value = get(sourceType, targetType);
+		if (value == null) {
+			expunge();
+			value = this.cache.computeIfAbsent(new WeakKey(sourceType, targetType, this.queue),
+					key -> function.apply(sourceType, targetType));
+		}
+		return value;
+	}
+
+	/**
+	 * Visits all cached values of {@link Class} pairs whose {@link Class}es have
+	 * not been collected yet, in an unspecified order; values of pairs of other
+	 * types are skipped.
+	 *
+	 * @param visitor
+	 *            The visitor to visit the cached values with; might <b>not</b> be
+	 *            null.
+	 */
+	void forEach(PairTable.Visitor<? super V> visitor) {
+		this.cache.forEach((key, value) -> {
+			Type sourceType = key.sourceType();
+			Type targetType = key.targetType();
+			if (sourceType instanceof Class && targetType instanceof Class) {
+				visitor.visit((Class<?>) sourceType, (Class<?>) targetType, value);
+			}
+		});
+	}
+
+	/**
+	 * Removes all cached values.
+	 */
+	void clear() {
+		this.cache.clear();
+		expunge();
+	}
+
+	private void expunge() {
+		KeyReference reference;
+		while ((reference = (KeyReference) this.queue.poll()) != null) {
+			this.cache.remove(reference.key);
+		}
+	}
+}
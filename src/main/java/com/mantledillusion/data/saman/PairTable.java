@@ -0,0 +1,195 @@
+package com.mantledillusion.data.saman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable open addressing hash table mapping source/target {@link Class}
+ * pairs to values.
+ * <p>
+ * Pairs are compared by identity and their hashes are computed once on
+ * insertion, so a lookup is a single linear probe over flat arrays.
+ *
+ * @param <V>
+ *            The type of the mapped values
+ */
+final class PairTable<V> {
+
+	/**
+	 * Visitor of a {@link PairTable}'s mappings.
+	 *
+	 * @param <V>
+	 *            The type of the mapped values
+	 */
+	interface Visitor<V> {
+
+		void visit(Class<?> sourceType, Class<?> targetType, V value);
+	}
+
+	/**
+	 * Builder for {@link PairTable}s.
+	 *
+	 * @param <V>
+	 *            The type of the mapped values
+	 */
+	static final class Builder<V> {
+
+		private Class<?>[] sourceTypes = new Class<?>[16];
+		private Class<?>[] targetTypes = new Class<?>[16];
+		private int[] hashes = new int[16];
+		private Object[] values = new Object[16];
+		private final List<Class<?>> order = new ArrayList<>();
+		private int size;
+
+		/**
+		 * Maps the given value to the given pair, unless there already is a value
+		 * mapped to it.
+		 *
+		 * @param sourceType
+		 *            The source type of the pair; might <b>not</b> be null.
+		 * @param targetType
+		 *            The target type of the pair; might <b>not</b> be null.
+		 * @param value
+		 *            The value to map; might <b>not</b> be null.
+		 * @return The value that has already been mapped to the pair, null if the
+		 *         given value has been mapped
+		 */
+		@SuppressWarnings("unchecked")
+		V putIfAbsent(Class<?> sourceType, Class<?> targetType, V value) {
+			int hash = hash(sourceType, targetType);
+			int mask = this.sourceTypes.length - 1;
+			int index = hash & mask;
+			for (; this.sourceTypes[index] != null; index = (index + 1) & mask) {
+				if (this.hashes[index] == hash && this.sourceTypes[index] == sourceType
+						&& this.targetTypes[index] == targetType) {
+					return (V) this.values[index];
+				}
+			}
+
+			this.sourceTypes[index] = sourceType;
+			this.targetTypes[index] = targetType;
+			this.hashes[index] = hash;
+			this.values[index] = value;
+			this.order.add(sourceType);
+			this.order.add(targetType);
+			if (++this.size * 2 > this.sourceTypes.length) {
+				resize();
+			}
+			return null;
+		}
+
+		private void resize() {
+			Class<?>[] sourceTypes = this.sourceTypes;
+			Class<?>[] targetTypes = this.targetTypes;
+			int[] hashes = this.hashes;
+			Object[] values = this.values;
+
+			int capacity = sourceTypes.length * 2;
+			this.sourceTypes = new Class<?>[capacity];
+			this.targetTypes = new Class<?>[capacity];
+			this.hashes = new int[capacity];
+			this.values = new Object[capacity];
+			for (int i = 0; i < sourceTypes.length; i++) {
+				if (sourceTypes[i] != null) {
+					int index = hashes[i] & (capacity - 1);
+					while (this.sourceTypes[index] != null) {
+						index = (index + 1) & (capacity - 1);
+					}
+					this.sourceTypes[index] = sourceTypes[i];
+					this.targetTypes[index] = targetTypes[i];
+					this.hashes[index] = hashes[i];
+					this.values[index] = values[i];
+				}
+			}
+		}
+
+		/**
+		 * Freezes the current mappings into a new {@link PairTable}.
+		 *
+		 * @return A new {@link PairTable} instance, never null
+		 */
+		PairTable<V> build() {
+			PairTable<V> table = new PairTable<>(Arrays.copyOf(this.sourceTypes, this.sourceTypes.length),
+					Arrays.copyOf(this.targetTypes, this.targetTypes.length),
+					Arrays.copyOf(this.hashes, this.hashes.length), Arrays.copyOf(this.values, this.values.length),
+					new int[this.size]);
+			for (int i = 0; i < this.size; i++) {
+				table.order[i] = table.indexOf(this.order.get(i * 2), this.order.get(i * 2 + 1));
+			}
+			return table;
+		}
+	}
+
+	private final Class<?>[] sourceTypes;
+	private final Class<?>[] targetTypes;
+	private final int[] hashes;
+	private final Object[] values;
+	private final int[] order;
+	private final int mask;
+
+	private PairTable(Class<?>[] sourceTypes, Class<?>[] targetTypes, int[] hashes, Object[] values, int[] order) {
+		this.sourceTypes = sourceTypes;
+		this.targetTypes = targetTypes;
+		this.hashes = hashes;
+		this.values = values;
+		this.order = order;
+		this.mask = sourceTypes.length - 1;
+	}
+
+	private static int hash(Class<?> sourceType, Class<?> targetType) {
+		int hash = (31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType)) * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Returns the value mapped to the given pair.
+	 *
+	 * @param sourceType
+	 *            The source type of the pair; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type of the pair; might <b>not</b> be null.
+	 * @return The mapped value, null if there is none
+	 */
+	@SuppressWarnings("unchecked")
+	V get(Class<?> sourceType, Class<?> targetType) {
+		int hash = hash(sourceType, targetType);
+		for (int index = hash & this.mask; this.sourceTypes[index] != null; index = (index + 1) & this.mask) {
+			if (this.hashes[index] == hash && this.sourceTypes[index] == sourceType
+					&& this.targetTypes[index] == targetType) {
+				return (V) this.values[index];
+			}
+		}
+		return null;
+	}
+
+	private int indexOf(Class<?> sourceType, Class<?> targetType) {
+		int index = hash(sourceType, targetType) & this.mask;
+		while (this.sourceTypes[index] != sourceType || this.targetTypes[index] != targetType) {
+			index = (index + 1) & this.mask;
+		}
+		return index;
+	}
+
+	/**
+	 * Visits all mappings in the order they have been added in.
+	 *
+	 * @param visitor
+	 *            The visitor to visit the mappings with; might <b>not</b> be null.
+	 */
+	@SuppressWarnings("unchecked")
+	void forEach(Visitor<? super V> visitor) {
+		for (int index : this.order) {
+			visitor.visit(this.sourceTypes[index], this.targetTypes[index], (V) this.values[index]);
+		}
+	}
+
+	/**
+	 * Returns the amount of mapped pairs.
+	 *
+	 * @return The size, &gt;= 0
+	 */
+	int size() {
+		return this.order.length;
+	}
+}
@@ -0,0 +1,518 @@
+package com.mantledillusion.data.saman;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+import com.mantledillusion.data.saman.exception.ProcessingException;
+
+/**
+ * {@link Processor} specializations for the primitive types int, long and
+ * double.
+ * <p>
+ * A primitive {@link Processor} is registered and resolved just as the
+ * {@link Processor} of its wrapper types; when it is invoked through one of
+ * the primitive entry points of the {@link ProcessingService}, such as
+ * {@link ProcessingService#processInt(int, Class)} or
+ * {@link ProcessingService#processToLong(int)}, neither its source nor its
+ * target value is boxed.
+ * <p>
+ * Note that a primitive {@link Processor} is not able to process a null
+ * source or return a null target.
+ */
+public final class PrimitiveProcessors {
+
+	private PrimitiveProcessors() {
+	}
+
+	/**
+	 * {@link Processor} from int to any target type.
+	 *
+	 * @param <TargetType>
+	 *            The target type to process to
+	 */
+	public interface FromInt<TargetType> extends Processor<Integer, TargetType> {
+
+		@Override
+		default TargetType process(Integer source, ProcessingDelegate context) throws Exception {
+			return processInt(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into, might be
+		 *         null
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		TargetType processInt(int source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from long to any target type.
+	 *
+	 * @param <TargetType>
+	 *            The target type to process to
+	 */
+	public interface FromLong<TargetType> extends Processor<Long, TargetType> {
+
+		@Override
+		default TargetType process(Long source, ProcessingDelegate context) throws Exception {
+			return processLong(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into, might be
+		 *         null
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		TargetType processLong(long source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from double to any target type.
+	 *
+	 * @param <TargetType>
+	 *            The target type to process to
+	 */
+	public interface FromDouble<TargetType> extends Processor<Double, TargetType> {
+
+		@Override
+		default TargetType process(Double source, ProcessingDelegate context) throws Exception {
+			return processDouble(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into, might be
+		 *         null
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		TargetType processDouble(double source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from any source type to int.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 */
+	public interface ToInt<SourceType> extends Processor<SourceType, Integer> {
+
+		@Override
+		default Integer process(SourceType source, ProcessingDelegate context) throws Exception {
+			return processToInt(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process; might be null.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		int processToInt(SourceType source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from any source type to long.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 */
+	public interface ToLong<SourceType> extends Processor<SourceType, Long> {
+
+		@Override
+		default Long process(SourceType source, ProcessingDelegate context) throws Exception {
+			return processToLong(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process; might be null.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		long processToLong(SourceType source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from any source type to double.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 */
+	public interface ToDouble<SourceType> extends Processor<SourceType, Double> {
+
+		@Override
+		default Double process(SourceType source, ProcessingDelegate context) throws Exception {
+			return processToDouble(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process; might be null.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		double processToDouble(SourceType source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from int to int.
+	 */
+	public interface IntToInt extends FromInt<Integer>, ToInt<Integer> {
+
+		@Override
+		default Integer process(Integer source, ProcessingDelegate context) throws Exception {
+			return processIntToInt(source, context);
+		}
+
+		@Override
+		default Integer processInt(int source, ProcessingDelegate context) throws Exception {
+			return processIntToInt(source, context);
+		}
+
+		@Override
+		default int processToInt(Integer source, ProcessingDelegate context) throws Exception {
+			return processIntToInt(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		int processIntToInt(int source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from int to long.
+	 */
+	public interface IntToLong extends FromInt<Long>, ToLong<Integer> {
+
+		@Override
+		default Long process(Integer source, ProcessingDelegate context) throws Exception {
+			return processIntToLong(source, context);
+		}
+
+		@Override
+		default Long processInt(int source, ProcessingDelegate context) throws Exception {
+			return processIntToLong(source, context);
+		}
+
+		@Override
+		default long processToLong(Integer source, ProcessingDelegate context) throws Exception {
+			return processIntToLong(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		long processIntToLong(int source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from int to double.
+	 */
+	public interface IntToDouble extends FromInt<Double>, ToDouble<Integer> {
+
+		@Override
+		default Double process(Integer source, ProcessingDelegate context) throws Exception {
+			return processIntToDouble(source, context);
+		}
+
+		@Override
+		default Double processInt(int source, ProcessingDelegate context) throws Exception {
+			return processIntToDouble(source, context);
+		}
+
+		@Override
+		default double processToDouble(Integer source, ProcessingDelegate context) throws Exception {
+			return processIntToDouble(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		double processIntToDouble(int source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from long to int.
+	 */
+	public interface LongToInt extends FromLong<Integer>, ToInt<Long> {
+
+		@Override
+		default Integer process(Long source, ProcessingDelegate context) throws Exception {
+			return processLongToInt(source, context);
+		}
+
+		@Override
+		default Integer processLong(long source, ProcessingDelegate context) throws Exception {
+			return processLongToInt(source, context);
+		}
+
+		@Override
+		default int processToInt(Long source, ProcessingDelegate context) throws Exception {
+			return processLongToInt(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		int processLongToInt(long source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from long to long.
+	 */
+	public interface LongToLong extends FromLong<Long>, ToLong<Long> {
+
+		@Override
+		default Long process(Long source, ProcessingDelegate context) throws Exception {
+			return processLongToLong(source, context);
+		}
+
+		@Override
+		default Long processLong(long source, ProcessingDelegate context) throws Exception {
+			return processLongToLong(source, context);
+		}
+
+		@Override
+		default long processToLong(Long source, ProcessingDelegate context) throws Exception {
+			return processLongToLong(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		long processLongToLong(long source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from long to double.
+	 */
+	public interface LongToDouble extends FromLong<Double>, ToDouble<Long> {
+
+		@Override
+		default Double process(Long source, ProcessingDelegate context) throws Exception {
+			return processLongToDouble(source, context);
+		}
+
+		@Override
+		default Double processLong(long source, ProcessingDelegate context) throws Exception {
+			return processLongToDouble(source, context);
+		}
+
+		@Override
+		default double processToDouble(Long source, ProcessingDelegate context) throws Exception {
+			return processLongToDouble(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		double processLongToDouble(long source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from double to int.
+	 */
+	public interface DoubleToInt extends FromDouble<Integer>, ToInt<Double> {
+
+		@Override
+		default Integer process(Double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToInt(source, context);
+		}
+
+		@Override
+		default Integer processDouble(double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToInt(source, context);
+		}
+
+		@Override
+		default int processToInt(Double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToInt(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		int processDoubleToInt(double source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from double to long.
+	 */
+	public interface DoubleToLong extends FromDouble<Long>, ToLong<Double> {
+
+		@Override
+		default Long process(Double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToLong(source, context);
+		}
+
+		@Override
+		default Long processDouble(double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToLong(source, context);
+		}
+
+		@Override
+		default long processToLong(Double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToLong(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		long processDoubleToLong(double source, ProcessingDelegate context) throws Exception;
+	}
+
+	/**
+	 * {@link Processor} from double to double.
+	 */
+	public interface DoubleToDouble extends FromDouble<Double>, ToDouble<Double> {
+
+		@Override
+		default Double process(Double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToDouble(source, context);
+		}
+
+		@Override
+		default Double processDouble(double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToDouble(source, context);
+		}
+
+		@Override
+		default double processToDouble(Double source, ProcessingDelegate context) throws Exception {
+			return processDoubleToDouble(source, context);
+		}
+
+		/**
+		 * Processes the given source.
+		 *
+		 * @param source
+		 *            The source to process.
+		 * @param context
+		 *            The context of the calling {@link ProcessingService}; might
+		 *            <b>not</b> be null.
+		 * @return The target the given source has been processed into
+		 * @throws Exception
+		 *             Any type of {@link Exception} the processing might cause.
+		 */
+		double processDoubleToDouble(double source, ProcessingDelegate context) throws Exception;
+	}
+
+	static <TargetType> TargetType requireTarget(TargetType target, Class<?> targetType) {
+		if (target == null) {
+			throw new ProcessingException("Cannot process to the primitive type '" + targetType.getSimpleName()
+					+ "' as the processor's result is null.");
+		}
+		return target;
+	}
+}
@@ -1,18 +1,96 @@
 package com.mantledillusion.data.saman;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.WeakHashMap;
+import java.util.Set;
 
 public class ProcessingContext {
 
-	private final Map<String, Object> context = new WeakHashMap<>();
+	/**
+	 * Immutable node of a persistent map of context values.
+	 * <p>
+	 * A node either is a frame setting (or, with a null value, removing) a single
+	 * key on top of the next node, or a flat base node holding all values. As
+	 * nodes are never changed, a derived {@link ProcessingContext} simply shares
+	 * its base's current node and adds its own frames on top of it, so neither
+	 * context is able to observe the other's changes. Once a chain of frames
+	 * grows longer than its base node, it is flattened into a new base node to
+	 * keep lookups short; as the chain may grow as long as the base before, the
+	 * cost of copying the base is spread over all frames put in between.
+	 */
+	private static final class Node {
+
+		private static final int MAX_FRAMES = 8;
+
+		private final String key;
+		private final Object value;
+		private final Node next;
+		private final int frames;
+		private final int base;
+		private final Map<String, Object> values;
+
+		private Node(String key, Object value, Node next) {
+			this.key = key;
+			this.value = value;
+			this.next = next;
+			this.frames = next == null ? 1 : next.frames + 1;
+			this.base = next == null ? 0 : next.base;
+			this.values = null;
+		}
+
+		private Node(Map<String, Object> values) {
+			this.key = null;
+			this.value = null;
+			this.next = null;
+			this.frames = 0;
+			this.base = values.size();
+			this.values = values;
+		}
+
+		private static Object lookup(Node node, String key) {
+			for (; node != null; node = node.next) {
+				if (node.values != null) {
+					return node.values.get(key);
+				} else if (node.key.equals(key)) {
+					return node.value;
+				}
+			}
+			return null;
+		}
+
+		private static Node put(Node node, String key, Object value) {
+			node = new Node(key, value, node);
+			return node.frames > Math.max(MAX_FRAMES, node.base) ? flatten(node) : node;
+		}
+
+		private static Node flatten(Node node) {
+			Map<String, Object> values = new HashMap<>();
+			// THE NODE'S OWN FRAMES ARE NEWER THAN ITS BASE, SO THE FIRST ENTRY OF A KEY WINS
+			Set<String> visited = new HashSet<>();
+			for (; node != null; node = node.next) {
+				if (node.values != null) {
+					for (Map.Entry<String, Object> entry : node.values.entrySet()) {
+						if (!visited.contains(entry.getKey())) {
+							values.put(entry.getKey(), entry.getValue());
+						}
+					}
+				} else if (visited.add(node.key) && node.value != null) {
+					values.put(node.key, node.value);
+				}
+			}
+			return values.isEmpty() ? null : new Node(values);
+		}
+	}
+
+	private Node context;
 
 	private ProcessingContext() {}
 
 	protected ProcessingContext(ProcessingContext base) {
 		if (base != null) {
-			this.context.putAll(base.context);
+			this.context = base.context;
 		}
 	}
 
@@ -40,7 +118,7 @@ public class ProcessingContext {
 	}
 
 	public <T> boolean has(String key) {
-		return this.context.containsKey(key);
+		return key != null && Node.lookup(this.context, key) != null;
 	}
 
 	public <T> T get(Class<T> valueType) {
@@ -52,10 +130,11 @@ public class ProcessingContext {
 
 	@SuppressWarnings("unchecked")
 	public <T> T get(String key) {
-		if (!this.context.containsKey(key)) {
+		Object value = key == null ? null : Node.lookup(this.context, key);
+		if (value == null) {
 			throw new IllegalStateException("No context value available for key " + key);
 		}
-		return (T) this.context.get(key);
+		return (T) value;
 	}
 
 	public <T> T get(Class<T> valueType, T defaultValue) {
@@ -67,7 +146,8 @@ public class ProcessingContext {
 
 	@SuppressWarnings("unchecked")
 	public <T> T get(String key, T defaultValue) {
-		return this.context.containsKey(key) ? (T) this.context.get(key) : defaultValue;
+		Object value = key == null ? null : Node.lookup(this.context, key);
+		return value != null ? (T) value : defaultValue;
 	}
 
 	public <T> ProcessingContext set(T value) {
@@ -98,7 +178,7 @@ public class ProcessingContext {
 				throw new IllegalArgumentException("Cannot set a null context value");
 			}
 		} else {
-			this.context.put(key, value);
+			this.context = Node.put(this.context, key, value);
 		}
 		return this;
 	}
@@ -111,10 +191,12 @@ public class ProcessingContext {
 	}
 
 	public <T> void remove(String key) {
-		this.context.remove(key);
+		if (key != null && Node.lookup(this.context, key) != null) {
+			this.context = Node.put(this.context, key, null);
+		}
 	}
 
 	public void clear() {
-		this.context.clear();
+		this.context = null;
 	}
 }
@@ -9,10 +9,23 @@ import java.util.function.BiPredicate;
 public class ProcessingDelegate extends ProcessingContext implements ProcessingService {
 
 	private final ProcessingService service;
+	private final ProcessorRegistry registry;
+	private final ProcessingPlan<?, ?> plan;
 
-	ProcessingDelegate(ProcessingService service, ProcessingContext base) {
+	ProcessingDelegate(ProcessingService service, ProcessorRegistry registry, ProcessingPlan<?, ?> plan,
+			ProcessingContext base) {
 		super(base);
 		this.service = service;
+		this.registry = registry;
+		this.plan = plan;
+	}
+
+	ProcessorRegistry getRegistry(ProcessingService service) {
+		return this.service == service ? this.registry : null;
+	}
+
+	ProcessingPlan<?, ?> getPlan(ProcessingService service) {
+		return this.service == service ? this.plan : null;
 	}
 
 	// DELEGATED
@@ -182,4 +195,188 @@ public class ProcessingDelegate extends ProcessingContext implements ProcessingS
 			SourceType source, Class<TargetType> targetType, ProcessingContext context) {
 		return this.service.processOrdinal(source, targetType, context);
 	}
+
+	// ############################################################################################################
+	// ################################################ PRIMITIVES ################################################
+	// ############################################################################################################
+
+	@Override
+	public <TargetType> TargetType processInt(int source, Class<TargetType> targetType) {
+		return this.service.processInt(source, targetType, this);
+	}
+
+	@Override
+	public <TargetType> TargetType processInt(int source, Class<TargetType> targetType, ProcessingContext context) {
+		return this.service.processInt(source, targetType, context);
+	}
+
+	@Override
+	public <TargetType> TargetType processLong(long source, Class<TargetType> targetType) {
+		return this.service.processLong(source, targetType, this);
+	}
+
+	@Override
+	public <TargetType> TargetType processLong(long source, Class<TargetType> targetType, ProcessingContext context) {
+		return this.service.processLong(source, targetType, context);
+	}
+
+	@Override
+	public <TargetType> TargetType processDouble(double source, Class<TargetType> targetType) {
+		return this.service.processDouble(source, targetType, this);
+	}
+
+	@Override
+	public <TargetType> TargetType processDouble(double source, Class<TargetType> targetType, ProcessingContext context) {
+		return this.service.processDouble(source, targetType, context);
+	}
+
+	@Override
+	public <SourceType> int processStrictlyToInt(Class<SourceType> sourceType, SourceType source) {
+		return this.service.processStrictlyToInt(sourceType, source, this);
+	}
+
+	@Override
+	public <SourceType> int processStrictlyToInt(Class<SourceType> sourceType, SourceType source,
+			ProcessingContext context) {
+		return this.service.processStrictlyToInt(sourceType, source, context);
+	}
+
+	@Override
+	public <SourceType> long processStrictlyToLong(Class<SourceType> sourceType, SourceType source) {
+		return this.service.processStrictlyToLong(sourceType, source, this);
+	}
+
+	@Override
+	public <SourceType> long processStrictlyToLong(Class<SourceType> sourceType, SourceType source,
+			ProcessingContext context) {
+		return this.service.processStrictlyToLong(sourceType, source, context);
+	}
+
+	@Override
+	public <SourceType> double processStrictlyToDouble(Class<SourceType> sourceType, SourceType source) {
+		return this.service.processStrictlyToDouble(sourceType, source, this);
+	}
+
+	@Override
+	public <SourceType> double processStrictlyToDouble(Class<SourceType> sourceType, SourceType source,
+			ProcessingContext context) {
+		return this.service.processStrictlyToDouble(sourceType, source, context);
+	}
+
+	@Override
+	public int processToInt(int source) {
+		return this.service.processToInt(source, this);
+	}
+
+	@Override
+	public int processToInt(int source, ProcessingContext context) {
+		return this.service.processToInt(source, context);
+	}
+
+	@Override
+	public int processToInt(long source) {
+		return this.service.processToInt(source, this);
+	}
+
+	@Override
+	public int processToInt(long source, ProcessingContext context) {
+		return this.service.processToInt(source, context);
+	}
+
+	@Override
+	public int processToInt(double source) {
+		return this.service.processToInt(source, this);
+	}
+
+	@Override
+	public int processToInt(double source, ProcessingContext context) {
+		return this.service.processToInt(source, context);
+	}
+
+	@Override
+	public long processToLong(int source) {
+		return this.service.processToLong(source, this);
+	}
+
+	@Override
+	public long processToLong(int source, ProcessingContext context) {
+		return this.service.processToLong(source, context);
+	}
+
+	@Override
+	public long processToLong(long source) {
+		return this.service.processToLong(source, this);
+	}
+
+	@Override
+	public long processToLong(long source, ProcessingContext context) {
+		return this.service.processToLong(source, context);
+	}
+
+	@Override
+	public long processToLong(double source) {
+		return this.service.processToLong(source, this);
+	}
+
+	@Override
+	public long processToLong(double source, ProcessingContext context) {
+		return this.service.processToLong(source, context);
+	}
+
+	@Override
+	public double processToDouble(int source) {
+		return this.service.processToDouble(source, this);
+	}
+
+	@Override
+	public double processToDouble(int source, ProcessingContext context) {
+		return this.service.processToDouble(source, context);
+	}
+
+	@Override
+	public double processToDouble(long source) {
+		return this.service.processToDouble(source, this);
+	}
+
+	@Override
+	public double processToDouble(long source, ProcessingContext context) {
+		return this.service.processToDouble(source, context);
+	}
+
+	@Override
+	public double processToDouble(double source) {
+		return this.service.processToDouble(source, this);
+	}
+
+	@Override
+	public double processToDouble(double source, ProcessingContext context) {
+		return this.service.processToDouble(source, context);
+	}
+
+	// ############################################################################################################
+	// ############################################## GENERIC TYPES ###############################################
+	// ############################################################################################################
+
+	@Override
+	public <SourceType, TargetType> TargetType processGeneric(SourceType source, TypeToken<TargetType> targetType) {
+		return this.service.processGeneric(source, targetType, this);
+	}
+
+	@Override
+	public <SourceType, TargetType> TargetType processGeneric(SourceType source, TypeToken<TargetType> targetType,
+			ProcessingContext context) {
+		return this.service.processGeneric(source, targetType, context);
+	}
+
+	@Override
+	public <SourceType, TargetType> TargetType processGenericStrictly(Class<SourceType> sourceType, SourceType source,
+			TypeToken<TargetType> targetType) {
+		return this.service.processGenericStrictly(sourceType, source, targetType, this);
+	}
+
+	@Override
+	public <SourceType, TargetType> TargetType processGenericStrictly(Class<SourceType> sourceType, SourceType source,
+			TypeToken<TargetType> targetType, ProcessingContext context) {
+		return this.service.processGenericStrictly(sourceType, source, targetType, context);
+	}
 }
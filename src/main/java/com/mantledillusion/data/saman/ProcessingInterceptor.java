@@ -0,0 +1,45 @@
+package com.mantledillusion.data.saman;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+
+/**
+ * Interceptor that is able to add behavior around the {@link Processor} of
+ * specific source/target type pairs, for example auditing or timing.
+ * <p>
+ * A {@link DefaultProcessingService} asks its interceptors once per pair,
+ * caches the {@link Processor} they return and uses it for every further
+ * processing of that pair. Interceptors that do not want to intercept a pair
+ * simply return the given {@link Processor}; if none of the interceptors
+ * intercepts a pair, the pair is processed by its {@link Processor} directly.
+ * <p>
+ * The primitive processing methods of the service only avoid boxing if the
+ * {@link Processor} they use implements the matching
+ * {@link PrimitiveProcessors} interface. An interceptor wrapping such a
+ * {@link Processor} should hence return a wrapper implementing the same
+ * interface; otherwise, the pair falls back to the boxing
+ * {@link Processor#process(Object, ProcessingDelegate)}.
+ *
+ * @see DefaultProcessingService#addInterceptor(ProcessingInterceptor)
+ */
+public interface ProcessingInterceptor {
+
+	/**
+	 * Intercepts the given {@link Processor} of the given pair.
+	 *
+	 * @param <SourceType>
+	 *            The source type processed from
+	 * @param <TargetType>
+	 *            The target type processed to
+	 * @param sourceType
+	 *            The source type processed from; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type processed to; might <b>not</b> be null.
+	 * @param processor
+	 *            The {@link Processor} of the pair, possibly already intercepted
+	 *            by interceptors added later; might <b>not</b> be null.
+	 * @return The {@link Processor} to use for the pair instead, or the given
+	 *         one to not intercept it; never null
+	 */
+	<SourceType, TargetType> Processor<SourceType, TargetType> intercept(Class<SourceType> sourceType,
+			Class<TargetType> targetType, Processor<SourceType, TargetType> processor);
+}
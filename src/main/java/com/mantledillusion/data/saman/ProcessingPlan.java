@@ -0,0 +1,122 @@
+package com.mantledillusion.data.saman;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+import com.mantledillusion.data.saman.exception.NoProcessorException;
+
+/**
+ * A plan for processing from a root source type to a root target type using a
+ * {@link DefaultProcessingService}.
+ * <p>
+ * The plan holds the root pair's {@link Processor} and records the
+ * {@link Processor} of every hop a processing using the plan makes, so
+ * repeated processings using the plan run through the recorded
+ * {@link Processor}s instead of resolving every hop again. A hop whose
+ * runtime source type has not been recorded yet, for example because it is a
+ * sub type of the one recorded before, is resolved as usual and recorded in
+ * addition.
+ * <p>
+ * A plan is bound to the {@link ProcessorRegistry} the service used when the
+ * plan was compiled; if the service uses a different one when processing, for
+ * example because its {@link MutableProcessorRegistry} has changed, the plan
+ * falls back to processing without it.
+ *
+ * @param <SourceType>
+ *            The root source type to process from
+ * @param <TargetType>
+ *            The root target type to process to
+ * @see DefaultProcessingService#compile(Class, Class)
+ * @see DefaultProcessingService#compile(Class, Class, Class)
+ */
+public final class ProcessingPlan<SourceType, TargetType> {
+
+	private final DefaultProcessingService service;
+	private final ProcessorRegistry registry;
+	private final Class<SourceType> sourceType;
+	private final Class<?> intermediateType;
+	private final Class<TargetType> targetType;
+	private final Processor<SourceType, TargetType> processor;
+	private volatile PairTable<Processor<?, ?>> hops = new PairTable.Builder<Processor<?, ?>>().build();
+
+	ProcessingPlan(DefaultProcessingService service, ProcessorRegistry registry, Class<SourceType> sourceType,
+			Class<?> intermediateType, Class<TargetType> targetType, Processor<SourceType, TargetType> processor) {
+		this.service = service;
+		this.registry = registry;
+		this.sourceType = sourceType;
+		this.intermediateType = intermediateType;
+		this.targetType = targetType;
+		this.processor = processor;
+	}
+
+	ProcessorRegistry getRegistry() {
+		return this.registry;
+	}
+
+	Class<SourceType> getSourceType() {
+		return this.sourceType;
+	}
+
+	Class<?> getIntermediateType() {
+		return this.intermediateType;
+	}
+
+	Class<TargetType> getTargetType() {
+		return this.targetType;
+	}
+
+	Processor<SourceType, TargetType> getProcessor() {
+		return this.processor;
+	}
+
+	/**
+	 * Returns the amount of hops recorded by this plan.
+	 *
+	 * @return The amount of hops, &gt;= 0
+	 */
+	public int getHopCount() {
+		return this.hops.size();
+	}
+
+	@SuppressWarnings("unchecked")
+	<HopSourceType, HopTargetType> Processor<HopSourceType, HopTargetType> identifyHop(
+			Class<HopSourceType> sourceType, Class<HopTargetType> targetType) throws NoProcessorException {
+		Processor<?, ?> processor = this.hops.get(sourceType, targetType);
+		if (processor == null) {
+			processor = this.service.identifyInterceptedProcessor(this.registry, sourceType, targetType);
+			synchronized (this) {
+				if (this.hops.get(sourceType, targetType) == null) {
+					PairTable.Builder<Processor<?, ?>> hops = new PairTable.Builder<>();
+					this.hops.forEach(hops::putIfAbsent);
+					hops.putIfAbsent(sourceType, targetType, processor);
+					this.hops = hops.build();
+				}
+			}
+		}
+		return (Processor<HopSourceType, HopTargetType>) processor;
+	}
+
+	/**
+	 * Processes the given source using this plan.
+	 *
+	 * @param source
+	 *            The source object to process; might be null.
+	 * @return The processed target object, possibly null if the
+	 *         {@link Processor}'s result is null
+	 */
+	public TargetType process(SourceType source) {
+		return process(source, null);
+	}
+
+	/**
+	 * Processes the given source using this plan.
+	 *
+	 * @param source
+	 *            The source object to process; might be null.
+	 * @param context
+	 *            Predefined {@link ProcessingContext}; might be null.
+	 * @return The processed target object, possibly null if the
+	 *         {@link Processor}'s result is null
+	 */
+	public TargetType process(SourceType source, ProcessingContext context) {
+		return this.service.process(this, source, context);
+	}
+}
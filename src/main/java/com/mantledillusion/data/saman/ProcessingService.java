@@ -9,6 +9,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.BiPredicate;
 
+import com.mantledillusion.data.saman.exception.ProcessingException;
+
 /**
  * Base for a service holding a pool of {@link Processor}s that it can delegate
  * specific processings to.
@@ -1290,6 +1292,490 @@ public interface ProcessingService {
     <SourceType extends Enum<SourceType>, TargetType extends Enum<TargetType>> TargetType processOrdinal(
             SourceType source, Class<TargetType> targetType, ProcessingContext context);
 
+    // ############################################################################################################
+    // ################################################ PRIMITIVES ################################################
+    // ############################################################################################################
+
+    /**
+     * Processes the given primitive source without boxing it if the responsible
+     * {@link Processor} is a {@link PrimitiveProcessors.FromInt}.
+     *
+     * @param <TargetType> The target type to process to
+     * @param source       The source value to process.
+     * @param targetType   The target type to process to; might <b>not</b> be null.
+     * @return The processed target object, possibly null if the {@link Processor}'s result is null
+     */
+    default <TargetType> TargetType processInt(int source, Class<TargetType> targetType) {
+        return processInt(source, targetType, null);
+    }
+
+    /**
+     * Processes the given primitive source without boxing it if the responsible
+     * {@link Processor} is a {@link PrimitiveProcessors.FromInt}.
+     *
+     * @param <TargetType> The target type to process to
+     * @param source       The source value to process.
+     * @param targetType   The target type to process to; might <b>not</b> be null.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target object, possibly null if the {@link Processor}'s result is null
+     */
+    default <TargetType> TargetType processInt(int source, Class<TargetType> targetType, ProcessingContext context) {
+        return processStrictly(Integer.class, source, targetType, context);
+    }
+
+    /**
+     * Processes the given primitive source without boxing it if the responsible
+     * {@link Processor} is a {@link PrimitiveProcessors.FromLong}.
+     *
+     * @param <TargetType> The target type to process to
+     * @param source       The source value to process.
+     * @param targetType   The target type to process to; might <b>not</b> be null.
+     * @return The processed target object, possibly null if the {@link Processor}'s result is null
+     */
+    default <TargetType> TargetType processLong(long source, Class<TargetType> targetType) {
+        return processLong(source, targetType, null);
+    }
+
+    /**
+     * Processes the given primitive source without boxing it if the responsible
+     * {@link Processor} is a {@link PrimitiveProcessors.FromLong}.
+     *
+     * @param <TargetType> The target type to process to
+     * @param source       The source value to process.
+     * @param targetType   The target type to process to; might <b>not</b> be null.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target object, possibly null if the {@link Processor}'s result is null
+     */
+    default <TargetType> TargetType processLong(long source, Class<TargetType> targetType, ProcessingContext context) {
+        return processStrictly(Long.class, source, targetType, context);
+    }
+
+    /**
+     * Processes the given primitive source without boxing it if the responsible
+     * {@link Processor} is a {@link PrimitiveProcessors.FromDouble}.
+     *
+     * @param <TargetType> The target type to process to
+     * @param source       The source value to process.
+     * @param targetType   The target type to process to; might <b>not</b> be null.
+     * @return The processed target object, possibly null if the {@link Processor}'s result is null
+     */
+    default <TargetType> TargetType processDouble(double source, Class<TargetType> targetType) {
+        return processDouble(source, targetType, null);
+    }
+
+    /**
+     * Processes the given primitive source without boxing it if the responsible
+     * {@link Processor} is a {@link PrimitiveProcessors.FromDouble}.
+     *
+     * @param <TargetType> The target type to process to
+     * @param source       The source value to process.
+     * @param targetType   The target type to process to; might <b>not</b> be null.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target object, possibly null if the {@link Processor}'s result is null
+     */
+    default <TargetType> TargetType processDouble(double source, Class<TargetType> targetType, ProcessingContext context) {
+        return processStrictly(Double.class, source, targetType, context);
+    }
+
+    /**
+     * Processes the given source strictly into a primitive target without boxing it
+     * if the responsible {@link Processor} is a {@link PrimitiveProcessors.ToInt}.
+     *
+     * @param <SourceType> The source type to process from
+     * @param sourceType   The source type to process from; might <b>not</b> be null.
+     * @param source       The source object to process; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default <SourceType> int processStrictlyToInt(Class<SourceType> sourceType, SourceType source) {
+        return processStrictlyToInt(sourceType, source, null);
+    }
+
+    /**
+     * Processes the given source strictly into a primitive target without boxing it
+     * if the responsible {@link Processor} is a {@link PrimitiveProcessors.ToInt}.
+     *
+     * @param <SourceType> The source type to process from
+     * @param sourceType   The source type to process from; might <b>not</b> be null.
+     * @param source       The source object to process; might be null.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default <SourceType> int processStrictlyToInt(Class<SourceType> sourceType, SourceType source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(sourceType, source, Integer.class, context), int.class);
+    }
+
+    /**
+     * Processes the given source strictly into a primitive target without boxing it
+     * if the responsible {@link Processor} is a {@link PrimitiveProcessors.ToLong}.
+     *
+     * @param <SourceType> The source type to process from
+     * @param sourceType   The source type to process from; might <b>not</b> be null.
+     * @param source       The source object to process; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default <SourceType> long processStrictlyToLong(Class<SourceType> sourceType, SourceType source) {
+        return processStrictlyToLong(sourceType, source, null);
+    }
+
+    /**
+     * Processes the given source strictly into a primitive target without boxing it
+     * if the responsible {@link Processor} is a {@link PrimitiveProcessors.ToLong}.
+     *
+     * @param <SourceType> The source type to process from
+     * @param sourceType   The source type to process from; might <b>not</b> be null.
+     * @param source       The source object to process; might be null.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default <SourceType> long processStrictlyToLong(Class<SourceType> sourceType, SourceType source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(sourceType, source, Long.class, context), long.class);
+    }
+
+    /**
+     * Processes the given source strictly into a primitive target without boxing it
+     * if the responsible {@link Processor} is a {@link PrimitiveProcessors.ToDouble}.
+     *
+     * @param <SourceType> The source type to process from
+     * @param sourceType   The source type to process from; might <b>not</b> be null.
+     * @param source       The source object to process; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default <SourceType> double processStrictlyToDouble(Class<SourceType> sourceType, SourceType source) {
+        return processStrictlyToDouble(sourceType, source, null);
+    }
+
+    /**
+     * Processes the given source strictly into a primitive target without boxing it
+     * if the responsible {@link Processor} is a {@link PrimitiveProcessors.ToDouble}.
+     *
+     * @param <SourceType> The source type to process from
+     * @param sourceType   The source type to process from; might <b>not</b> be null.
+     * @param source       The source object to process; might be null.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default <SourceType> double processStrictlyToDouble(Class<SourceType> sourceType, SourceType source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(sourceType, source, Double.class, context), double.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.IntToInt}.
+     * If there is no {@link Processor} registered for the pair, the source is
+     * returned as it is.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default int processToInt(int source) {
+        return processToInt(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.IntToInt}.
+     * If there is no {@link Processor} registered for the pair, the source is
+     * returned as it is.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default int processToInt(int source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Integer.class, source, Integer.class, context), int.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.LongToInt}.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default int processToInt(long source) {
+        return processToInt(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.LongToInt}.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default int processToInt(long source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Long.class, source, Integer.class, context), int.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.DoubleToInt}.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default int processToInt(double source) {
+        return processToInt(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.DoubleToInt}.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default int processToInt(double source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Double.class, source, Integer.class, context), int.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.IntToLong}.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default long processToLong(int source) {
+        return processToLong(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.IntToLong}.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default long processToLong(int source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Integer.class, source, Long.class, context), long.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.LongToLong}.
+     * If there is no {@link Processor} registered for the pair, the source is
+     * returned as it is.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default long processToLong(long source) {
+        return processToLong(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.LongToLong}.
+     * If there is no {@link Processor} registered for the pair, the source is
+     * returned as it is.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default long processToLong(long source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Long.class, source, Long.class, context), long.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.DoubleToLong}.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default long processToLong(double source) {
+        return processToLong(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.DoubleToLong}.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default long processToLong(double source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Double.class, source, Long.class, context), long.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.IntToDouble}.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default double processToDouble(int source) {
+        return processToDouble(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.IntToDouble}.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default double processToDouble(int source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Integer.class, source, Double.class, context), double.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.LongToDouble}.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default double processToDouble(long source) {
+        return processToDouble(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.LongToDouble}.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default double processToDouble(long source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Long.class, source, Double.class, context), double.class);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.DoubleToDouble}.
+     * If there is no {@link Processor} registered for the pair, the source is
+     * returned as it is.
+     *
+     * @param source       The source value to process.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default double processToDouble(double source) {
+        return processToDouble(source, null);
+    }
+
+    /**
+     * Processes the given primitive source into a primitive target without boxing
+     * either if the responsible {@link Processor} is a {@link PrimitiveProcessors.DoubleToDouble}.
+     * If there is no {@link Processor} registered for the pair, the source is
+     * returned as it is.
+     *
+     * @param source       The source value to process.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target value
+     * @throws com.mantledillusion.data.saman.exception.ProcessingException If the {@link Processor}'s result is null.
+     */
+    default double processToDouble(double source, ProcessingContext context) {
+        return PrimitiveProcessors.requireTarget(processStrictly(Double.class, source, Double.class, context), double.class);
+    }
+
+    // ############################################################################################################
+    // ############################################## GENERIC TYPES ###############################################
+    // ############################################################################################################
+
+    /**
+     * Processes the given source to the full generic type of the given token.
+     *
+     * @param <SourceType> The source type to process from
+     * @param <TargetType> The target type to process to
+     * @param source       The source object to process; might be null, although in this case
+     *                     no {@link Processor} is called and null is returned.
+     * @param targetType   The token of the target type to process to; might <b>not</b> be null.
+     * @return The processed target object, always null if the source is null and
+     * possibly null if the {@link Processor}'s result is null
+     */
+    default <SourceType, TargetType> TargetType processGeneric(SourceType source, TypeToken<TargetType> targetType) {
+        return processGeneric(source, targetType, null);
+    }
+
+    /**
+     * Processes the given source to the full generic type of the given token.
+     *
+     * @param <SourceType> The source type to process from
+     * @param <TargetType> The target type to process to
+     * @param source       The source object to process; might be null, although in this case
+     *                     no {@link Processor} is called and null is returned.
+     * @param targetType   The token of the target type to process to; might <b>not</b> be null.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target object, always null if the source is null and
+     * possibly null if the {@link Processor}'s result is null
+     */
+    @SuppressWarnings("unchecked")
+    default <SourceType, TargetType> TargetType processGeneric(SourceType source, TypeToken<TargetType> targetType,
+                                                        ProcessingContext context) {
+        return source == null ? null : processGenericStrictly((Class<? super SourceType>) source.getClass(), source, targetType, context);
+    }
+
+    /**
+     * Processes the given source to the full generic type of the given token.
+     *
+     * @param <SourceType> The source type to process from
+     * @param <TargetType> The target type to process to
+     * @param sourceType   The source type to process from; might <b>not</b> be null.
+     * @param source       The source object to process; might be null.
+     * @param targetType   The token of the target type to process to; might <b>not</b> be null.
+     * @return The processed target object, possibly null if the {@link Processor}'s result is null
+     */
+    default <SourceType, TargetType> TargetType processGenericStrictly(Class<SourceType> sourceType, SourceType source,
+                                                                TypeToken<TargetType> targetType) {
+        return processGenericStrictly(sourceType, source, targetType, null);
+    }
+
+    /**
+     * Processes the given source to the full generic type of the given token.
+     * <p>
+     * By default, the target type is erased to its raw type; implementations
+     * resolving {@link Processor}s by the full generic type override this method.
+     *
+     * @param <SourceType> The source type to process from
+     * @param <TargetType> The target type to process to
+     * @param sourceType   The source type to process from; might <b>not</b> be null.
+     * @param source       The source object to process; might be null.
+     * @param targetType   The token of the target type to process to; might <b>not</b> be null.
+     * @param context      Predefined {@link ProcessingContext}; might be null.
+     * @return The processed target object, possibly null if the {@link Processor}'s result is null
+     */
+    default <SourceType, TargetType> TargetType processGenericStrictly(Class<SourceType> sourceType, SourceType source,
+                                                                TypeToken<TargetType> targetType,
+                                                                ProcessingContext context) {
+        if (targetType == null) {
+            throw new ProcessingException("Cannot process using a null target type.");
+        }
+        return processStrictly(sourceType, source, targetType.getRawType(), context);
+    }
+
     interface Processor<SourceType, TargetType> {
 
         TargetType process(SourceType source, ProcessingDelegate context) throws Exception;
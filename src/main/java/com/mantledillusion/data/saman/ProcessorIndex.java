@@ -0,0 +1,158 @@
+package com.mantledillusion.data.saman;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.mantledillusion.data.saman.ProcessingService.BiProcessor;
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+
+/**
+ * An index of {@link Processor}s whose source/target types are known up front,
+ * so a {@link ProcessorRegistry} can be built from it without reflecting on
+ * the {@link Processor}s' generic type parameters.
+ * <p>
+ * Implementations are typically generated at compile time by the
+ * {@link com.mantledillusion.data.saman.index.ProcessorIndexProcessor}, but
+ * can also be assembled manually using {@link #of(Entry...)}.
+ * <p>
+ * The {@link Processor}s of an index are instantiated lazily by a
+ * {@link ProcessorRegistry}, when one of their source/target type pairs is
+ * resolved for the first time.
+ */
+public interface ProcessorIndex {
+
+	/**
+	 * A single {@link Processor} of a {@link ProcessorIndex}.
+	 */
+	final class Entry {
+
+		private final Class<?> sourceType;
+		private final Class<?> targetType;
+		private final boolean bidirectional;
+		private final Supplier<? extends Processor<?, ?>> factory;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param sourceType
+		 *            The source type the {@link Processor} processes from; might
+		 *            <b>not</b> be null.
+		 * @param targetType
+		 *            The target type the {@link Processor} processes to; might
+		 *            <b>not</b> be null.
+		 * @param bidirectional
+		 *            Whether the {@link Processor} is a {@link BiProcessor} that
+		 *            is also able to process from the target to the source type.
+		 * @param factory
+		 *            The factory creating the {@link Processor} instance; might
+		 *            <b>not</b> be null.
+		 */
+		public Entry(Class<?> sourceType, Class<?> targetType, boolean bidirectional,
+				Supplier<? extends Processor<?, ?>> factory) {
+			if (sourceType == null || targetType == null) {
+				throw new IllegalArgumentException("Cannot create an index entry for a null source or target type");
+			} else if (factory == null) {
+				throw new IllegalArgumentException("Cannot create an index entry for a null processor factory");
+			}
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.bidirectional = bidirectional;
+			this.factory = factory;
+		}
+
+		public Class<?> getSourceType() {
+			return this.sourceType;
+		}
+
+		public Class<?> getTargetType() {
+			return this.targetType;
+		}
+
+		public boolean isBidirectional() {
+			return this.bidirectional;
+		}
+
+		public Supplier<? extends Processor<?, ?>> getFactory() {
+			return this.factory;
+		}
+
+		/**
+		 * Factory method.
+		 * <p>
+		 * Creates a new {@link Entry} for a {@link Processor} that is created by the
+		 * given factory on demand.
+		 *
+		 * @param <SourceType>
+		 *            The source type to convert from
+		 * @param <TargetType>
+		 *            The target type to convert to
+		 * @param sourceType
+		 *            The source type the {@link Processor} processes from; might
+		 *            <b>not</b> be null.
+		 * @param targetType
+		 *            The target type the {@link Processor} processes to; might
+		 *            <b>not</b> be null.
+		 * @param factory
+		 *            The factory creating the {@link Processor} instance; might
+		 *            <b>not</b> be null.
+		 * @return A new {@link Entry} instance, never null
+		 */
+		public static <SourceType, TargetType> Entry of(Class<SourceType> sourceType, Class<TargetType> targetType,
+				Supplier<? extends Processor<SourceType, TargetType>> factory) {
+			return new Entry(sourceType, targetType, false, factory);
+		}
+
+		/**
+		 * Factory method.
+		 * <p>
+		 * Creates a new {@link Entry} for a {@link BiProcessor} that is created by
+		 * the given factory on demand.
+		 *
+		 * @param <SourceType>
+		 *            The source type to convert from
+		 * @param <TargetType>
+		 *            The target type to convert to
+		 * @param sourceType
+		 *            The source type the {@link BiProcessor} processes from; might
+		 *            <b>not</b> be null.
+		 * @param targetType
+		 *            The target type the {@link BiProcessor} processes to; might
+		 *            <b>not</b> be null.
+		 * @param factory
+		 *            The factory creating the {@link BiProcessor} instance; might
+		 *            <b>not</b> be null.
+		 * @return A new {@link Entry} instance, never null
+		 */
+		public static <SourceType, TargetType> Entry ofBidirectional(Class<SourceType> sourceType,
+				Class<TargetType> targetType, Supplier<? extends BiProcessor<SourceType, TargetType>> factory) {
+			return new Entry(sourceType, targetType, true, factory);
+		}
+	}
+
+	/**
+	 * Returns the entries of this index.
+	 *
+	 * @return The entries, never null
+	 */
+	List<Entry> getEntries();
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorIndex} of the given entries.
+	 *
+	 * @param entries
+	 *            The entries of the index; might be empty, but <b>not</b> contain
+	 *            nulls.
+	 * @return A new {@link ProcessorIndex} instance, never null
+	 */
+	static ProcessorIndex of(Entry... entries) {
+		if (Arrays.asList(entries).contains(null)) {
+			throw new IllegalArgumentException("Cannot create an index of null entries");
+		}
+		List<Entry> entryList = Collections.unmodifiableList(Arrays.asList(entries.clone()));
+		return () -> entryList;
+	}
+}
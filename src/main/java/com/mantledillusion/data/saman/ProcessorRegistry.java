@@ -4,6 +4,9 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.reflect.TypeUtils;
 
@@ -14,7 +17,8 @@ import com.mantledillusion.data.saman.exception.ProcessingException;
 import com.mantledillusion.data.saman.exception.ProcessorTypeException;
 
 /**
- * A {@link Map} style registry for {@link Processor}s.
+ * A registry for {@link Processor}s, mapping source/target type pairs to the
+ * {@link Processor} responsible for them.
  */
 public class ProcessorRegistry {
 
@@ -32,10 +36,417 @@ public class ProcessorRegistry {
 		WRAPPER_TYPES = Collections.unmodifiableMap(wrapperTypes);
 	}
 
-	private final Map<Class<?>, Map<Class<?>, Processor<?, ?>>> processorRegistry;
+	private static final ClassValue<Class<?>[]> LINEARIZATIONS = new ClassValue<Class<?>[]>() {
 
-	private ProcessorRegistry(Map<Class<?>, Map<Class<?>, Processor<?, ?>>> processorRegistry) {
-		this.processorRegistry = processorRegistry;
+		@Override
+		protected Class<?>[] computeValue(Class<?> type) {
+			return linearize(WRAPPER_TYPES.getOrDefault(type, type));
+		}
+	};
+
+	/**
+	 * {@link Processor} translating {@link Enum} values by their ordinal into a
+	 * prebuilt array of target values.
+	 */
+	private static final class EnumProcessor<SourceType extends Enum<SourceType>, TargetType extends Enum<TargetType>>
+			implements Processor<SourceType, TargetType> {
+
+		private final TargetType[] translation;
+
+		private EnumProcessor(TargetType[] translation) {
+			this.translation = translation;
+		}
+
+		@Override
+		public TargetType process(SourceType source, ProcessingDelegate context) {
+			return source == null ? null : this.translation[source.ordinal()];
+		}
+	}
+
+	/**
+	 * {@link Processor} chaining {@link Processor}s, passing the result of each
+	 * one to the next; an intermediate null result ends the chain.
+	 */
+	private static final class ComposedProcessor implements Processor<Object, Object> {
+
+		private final Processor<Object, Object>[] chain;
+
+		private ComposedProcessor(Processor<Object, Object>[] chain) {
+			this.chain = chain;
+		}
+
+		@Override
+		public Object process(Object source, ProcessingDelegate context) throws Exception {
+			Object value = this.chain[0].process(source, context);
+			for (int i = 1; i < this.chain.length && value != null; i++) {
+				value = this.chain[i].process(value, context);
+			}
+			return value;
+		}
+	}
+
+	/**
+	 * {@link Processor} dispatching to the {@link GuardedProcessor}s of a pair
+	 * using a decision table: one hashed lookup per key extractor, followed by
+	 * the predicates in order and an optional fallback {@link Processor}.
+	 */
+	private static final class DecisionProcessor implements Processor<Object, Object> {
+
+		private final Class<?> sourceType;
+		private final Class<?> targetType;
+		private final Function<Object, ?>[] keyExtractors;
+		private final Map<Object, Processor<Object, Object>>[] keyTables;
+		private final Predicate<Object>[] predicates;
+		private final Processor<Object, Object>[] predicated;
+		private final Processor<Object, Object> fallback;
+
+		@SuppressWarnings("unchecked")
+		private DecisionProcessor(Class<?> sourceType, Class<?> targetType, List<GuardedProcessor<?, ?>> guarded,
+				Processor<?, ?> fallback) {
+			Map<Function<?, ?>, Map<Object, Processor<Object, Object>>> keyTables = new LinkedHashMap<>();
+			List<Predicate<Object>> predicates = new ArrayList<>();
+			List<Processor<Object, Object>> predicated = new ArrayList<>();
+			for (GuardedProcessor<?, ?> processor : guarded) {
+				if (processor.getPredicate() != null) {
+					predicates.add((Predicate<Object>) processor.getPredicate());
+					predicated.add((Processor<Object, Object>) processor.getProcessor());
+				} else if (keyTables.computeIfAbsent(processor.getKeyExtractor(), extractor -> new HashMap<>())
+						.putIfAbsent(processor.getKey(), (Processor<Object, Object>) processor.getProcessor()) != null) {
+					throw new AmbiguousProcessorException(sourceType, targetType);
+				}
+			}
+
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.keyExtractors = (Function<Object, ?>[]) keyTables.keySet()
+					.toArray(new Function<?, ?>[keyTables.size()]);
+			this.keyTables = (Map<Object, Processor<Object, Object>>[]) keyTables.values()
+					.toArray(new Map<?, ?>[keyTables.size()]);
+			this.predicates = (Predicate<Object>[]) predicates.toArray(new Predicate<?>[predicates.size()]);
+			this.predicated = (Processor<Object, Object>[]) predicated.toArray(new Processor<?, ?>[predicated.size()]);
+			this.fallback = (Processor<Object, Object>) fallback;
+		}
+
+		@Override
+		public Object process(Object source, ProcessingDelegate context) throws Exception {
+			if (source != null) {
+				for (int i = 0; i < this.keyExtractors.length; i++) {
+					Processor<Object, Object> processor = this.keyTables[i].get(this.keyExtractors[i].apply(source));
+					if (processor != null) {
+						return processor.process(source, context);
+					}
+				}
+				for (int i = 0; i < this.predicates.length; i++) {
+					if (this.predicates[i].test(source)) {
+						return this.predicated[i].process(source, context);
+					}
+				}
+			}
+
+			if (this.fallback != null) {
+				return this.fallback.process(source, context);
+			} else if (source == null) {
+				return null;
+			}
+			throw new ProcessingException("None of the guarded processors for processing '"
+					+ this.sourceType.getSimpleName() + "' to '" + this.targetType.getSimpleName()
+					+ "' accepts the source '" + source + "' and there is no unguarded one.");
+		}
+	}
+
+	/**
+	 * {@link Processor} dispatching to the {@link VersionedProcessor} of a pair
+	 * whose version is active in the {@link ProcessingContext}, or to an
+	 * optional fallback {@link Processor} if there is none.
+	 */
+	private static final class VersionProcessor implements Processor<Object, Object> {
+
+		private final Class<?> sourceType;
+		private final Class<?> targetType;
+		private final Map<String, Processor<Object, Object>> versions = new HashMap<>();
+		private final Processor<Object, Object> fallback;
+
+		@SuppressWarnings("unchecked")
+		private VersionProcessor(Class<?> sourceType, Class<?> targetType, List<VersionedProcessor<?, ?>> versioned,
+				Processor<?, ?> fallback) {
+			for (VersionedProcessor<?, ?> processor : versioned) {
+				if (this.versions.putIfAbsent(processor.getVersion(),
+						(Processor<Object, Object>) processor.getProcessor()) != null) {
+					throw new AmbiguousProcessorException(sourceType, targetType);
+				}
+			}
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.fallback = (Processor<Object, Object>) fallback;
+		}
+
+		@Override
+		public Object process(Object source, ProcessingDelegate context) throws Exception {
+			VersionedProcessor.Version version = context == null ? null
+					: context.get(VersionedProcessor.Version.class, null);
+			Processor<Object, Object> processor = version == null ? null : this.versions.get(version.getVersion());
+			if (processor == null) {
+				if (this.fallback == null) {
+					throw new NoProcessorException(this.sourceType, this.targetType);
+				}
+				processor = this.fallback;
+			}
+			return processor.process(source, context);
+		}
+	}
+
+	/**
+	 * {@link Processor} processing in the reverse direction of a
+	 * {@link ProcessingService.BiProcessor}.
+	 */
+	private static final class ReverseProcessor<SourceType, TargetType> implements Processor<TargetType, SourceType> {
+
+		private final ProcessingService.BiProcessor<SourceType, TargetType> processor;
+
+		private ReverseProcessor(ProcessingService.BiProcessor<SourceType, TargetType> processor) {
+			this.processor = processor;
+		}
+
+		@Override
+		public SourceType process(TargetType source, ProcessingDelegate context) throws Exception {
+			return this.processor.reverse(source, context);
+		}
+	}
+
+	/**
+	 * Placeholder for a {@link Processor} of a {@link ProcessorIndex} that
+	 * instantiates the {@link Processor} on first use.
+	 * <p>
+	 * Both directions of a bidirectional entry share a single instance.
+	 */
+	private static final class LazyProcessor implements Processor<Object, Object> {
+
+		private final ProcessorIndex.Entry entry;
+		private final LazyProcessor forward;
+		private volatile Processor<?, ?> processor;
+
+		private LazyProcessor(ProcessorIndex.Entry entry, LazyProcessor forward) {
+			this.entry = entry;
+			this.forward = forward;
+		}
+
+		@SuppressWarnings("unchecked")
+		private Processor<?, ?> get() {
+			Processor<?, ?> processor = this.processor;
+			if (processor == null) {
+				synchronized (this) {
+					processor = this.processor;
+					if (processor == null) {
+						if (this.forward == null) {
+							processor = instantiate(this.entry);
+						} else {
+							processor = new ReverseProcessor<>((ProcessingService.BiProcessor<?, ?>) this.forward.get());
+						}
+						this.processor = processor;
+					}
+				}
+			}
+			return processor;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Object process(Object source, ProcessingDelegate context) throws Exception {
+			return ((Processor<Object, Object>) get()).process(source, context);
+		}
+	}
+
+	/**
+	 * {@link Processor} fusing an {@link FusibleProcessors.Emitter} with a
+	 * {@link FusibleProcessors.Collector} of the same sink type.
+	 */
+	private static final class FusedProcessor<SourceType, IntermediateType, TargetType, SinkType>
+			implements Processor<SourceType, TargetType> {
+
+		private final FusibleProcessors.Emitter<SourceType, IntermediateType, SinkType> emitter;
+		private final FusibleProcessors.Collector<IntermediateType, TargetType, SinkType> collector;
+
+		private FusedProcessor(FusibleProcessors.Emitter<SourceType, IntermediateType, SinkType> emitter,
+				FusibleProcessors.Collector<IntermediateType, TargetType, SinkType> collector) {
+			this.emitter = emitter;
+			this.collector = collector;
+		}
+
+		@Override
+		public TargetType process(SourceType source, ProcessingDelegate context) throws Exception {
+			if (source == null) {
+				IntermediateType intermediate = this.emitter.process(null, context);
+				return intermediate == null ? null : this.collector.process(intermediate, context);
+			}
+			SinkType sink = this.collector.createSink(context);
+			this.emitter.emit(source, sink, context);
+			return this.collector.complete(sink, context);
+		}
+	}
+
+	private static final ClassValue<Class<?>> EMITTER_SINK_TYPES = sinkTypes(FusibleProcessors.Emitter.class);
+	private static final ClassValue<Class<?>> COLLECTOR_SINK_TYPES = sinkTypes(FusibleProcessors.Collector.class);
+
+	private static final class ProcessorTypes {
+
+		private final Class<?>[] types;
+		private final Type[] genericTypes;
+
+		private ProcessorTypes(Type sourceType, Type targetType) {
+			Class<?> rawSourceType = toProcessorTypeParameter(sourceType);
+			Class<?> rawTargetType = toProcessorTypeParameter(targetType);
+			this.types = rawSourceType == null || rawTargetType == null ? new Class<?>[0]
+					: new Class<?>[] { rawSourceType, rawTargetType };
+			this.genericTypes = this.types.length > 0 && (isGeneric(sourceType) || isGeneric(targetType))
+					? new Type[] { sourceType, targetType } : new Type[0];
+		}
+	}
+
+	private static final ClassValue<ProcessorTypes> PROCESSOR_TYPES = new ClassValue<ProcessorTypes>() {
+
+		@Override
+		protected ProcessorTypes computeValue(Class<?> processorType) {
+			Map<TypeVariable<?>, Type> types = TypeUtils.getTypeArguments(processorType, Processor.class);
+			return new ProcessorTypes(types.get(Processor.class.getTypeParameters()[0]),
+					types.get(Processor.class.getTypeParameters()[1]));
+		}
+	};
+
+	private static final Processor<?, ?> NO_PROCESSOR = (source, context) -> {
+		throw new IllegalStateException("Placeholder for pairs without processor is not invocable");
+	};
+
+	private static final Processor<?, ?> AMBIGUOUS_PROCESSOR = (source, context) -> {
+		throw new IllegalStateException("Placeholder for pairs with ambiguous processors is not invocable");
+	};
+
+	private final ProcessorRegistry parent;
+	private final PairTable<Processor<?, ?>> processorTable;
+	private final Map<List<Type>, Processor<?, ?>> genericProcessorTable;
+	private final Set<List<Class<?>>> genericPairs;
+	private final PairCache<Processor<?, ?>> namedProcessors;
+	private final PairCache<Processor<?, ?>> ordinalProcessors;
+	private final PairCache<Processor<?, ?>> resolutionCache = new PairCache<>();
+	private final PairCache<Processor<?, ?>> genericResolutionCache = new PairCache<>();
+	private volatile Map<Class<?>, List<Class<?>>> processableTargetTypes;
+	private final boolean composeProcessors;
+	private final boolean resolveTargetSubTypes;
+
+	private ProcessorRegistry(ProcessorRegistry parent, PairTable<Processor<?, ?>> processorTable) {
+		this(parent, processorTable, Collections.emptyMap());
+	}
+
+	private ProcessorRegistry(ProcessorRegistry parent, PairTable<Processor<?, ?>> processorTable,
+			Map<List<Type>, Processor<?, ?>> genericProcessorTable) {
+		this.parent = parent;
+		this.processorTable = processorTable;
+		this.genericProcessorTable = genericProcessorTable;
+		this.genericPairs = genericProcessorTable.keySet().stream()
+				.map(pair -> Arrays.<Class<?>> asList(TypeUtils.getRawType(pair.get(0), null),
+						TypeUtils.getRawType(pair.get(1), null)))
+				.collect(Collectors.toSet());
+		this.namedProcessors = parent == null ? new PairCache<>() : parent.namedProcessors;
+		this.ordinalProcessors = parent == null ? new PairCache<>() : parent.ordinalProcessors;
+		this.composeProcessors = parent != null && parent.composeProcessors;
+		this.resolveTargetSubTypes = parent != null && parent.resolveTargetSubTypes;
+	}
+
+	private ProcessorRegistry(ProcessorRegistry registry, boolean composeProcessors, boolean resolveTargetSubTypes) {
+		this.parent = registry.parent;
+		this.processorTable = registry.processorTable;
+		this.genericProcessorTable = registry.genericProcessorTable;
+		this.genericPairs = registry.genericPairs;
+		this.namedProcessors = registry.namedProcessors;
+		this.ordinalProcessors = registry.ordinalProcessors;
+		this.processableTargetTypes = registry.processableTargetTypes;
+		this.composeProcessors = composeProcessors;
+		this.resolveTargetSubTypes = resolveTargetSubTypes;
+	}
+
+	private Processor<?, ?> lookupProcessor(Class<?> sourceType, Class<?> targetType) {
+		Processor<?, ?> processor = this.processorTable.get(sourceType, targetType);
+		if (processor instanceof LazyProcessor) {
+			return ((LazyProcessor) processor).get();
+		}
+		return processor == null && this.parent != null ? this.parent.lookupProcessor(sourceType, targetType) : processor;
+	}
+
+	boolean isRegistered(Class<?> sourceType, Class<?> targetType) {
+		return this.processorTable.get(sourceType, targetType) != null
+				|| (this.parent != null && this.parent.isRegistered(sourceType, targetType));
+	}
+
+	/**
+	 * Returns whether {@link Processor}s are composed of chains of registered
+	 * {@link Processor}s for source/target type pairs without a directly
+	 * registered {@link Processor}.
+	 * <p>
+	 * False by default.
+	 *
+	 * @return True if {@link Processor}s are composed, false otherwise
+	 */
+	public boolean doComposeProcessors() {
+		return this.composeProcessors;
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorRegistry} of the same {@link Processor}s and
+	 * parent as this one that composes {@link Processor}s of chains of registered
+	 * {@link Processor}s for source/target type pairs without a directly
+	 * registered {@link Processor} or not.
+	 * <p>
+	 * If enabled, the shortest chain of {@link Processor}s leading from the
+	 * source type to the target type is searched for once per pair and the
+	 * composed {@link Processor} is cached just as a directly registered one.
+	 * <p>
+	 * This {@link ProcessorRegistry} stays unchanged, so the option cannot
+	 * change while it is in use.
+	 * 
+	 * @param composeProcessors
+	 *            True if {@link Processor}s should be composed, false
+	 *            otherwise.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 */
+	public ProcessorRegistry withComposeProcessors(boolean composeProcessors) {
+		return new ProcessorRegistry(this, composeProcessors, this.resolveTargetSubTypes);
+	}
+
+	/**
+	 * Returns whether {@link Processor}s processing to a sub type of a requested
+	 * target type are considered for source/target type pairs without a
+	 * {@link Processor} processing to exactly the requested target type.
+	 * <p>
+	 * False by default.
+	 *
+	 * @return True if target sub types are resolved, false otherwise
+	 */
+	public boolean doResolveTargetSubTypes() {
+		return this.resolveTargetSubTypes;
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorRegistry} of the same {@link Processor}s and
+	 * parent as this one that considers {@link Processor}s processing to a sub
+	 * type of a requested target type for source/target type pairs without a
+	 * {@link Processor} processing to exactly the requested target type or not.
+	 * <p>
+	 * If enabled, the most specific {@link Processor} is determined once per
+	 * pair and cached just as a directly registered one; see
+	 * {@link #identifyProcessor(Class, Class)} for its specificity.
+	 * <p>
+	 * This {@link ProcessorRegistry} stays unchanged, so the option cannot
+	 * change while it is in use.
+	 *
+	 * @param resolveTargetSubTypes
+	 *            True if target sub types should be resolved, false otherwise.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 */
+	public ProcessorRegistry withResolveTargetSubTypes(boolean resolveTargetSubTypes) {
+		return new ProcessorRegistry(this, this.composeProcessors, resolveTargetSubTypes);
 	}
 
 	/**
@@ -44,7 +455,31 @@ public class ProcessorRegistry {
 	 * <p>
 	 * In search for a {@link Processor}, the source type's super types will be
 	 * iterated through until a processor is found that can process into the target
-	 * type.
+	 * type. The source type itself is tried first, then its super classes from
+	 * the most to the least specific one, then all of the interfaces implemented
+	 * along that hierarchy (breadth first, in declaration order) and finally
+	 * {@link Object}.
+	 * <p>
+	 * For every one of these types, a {@link Processor} registered in this
+	 * registry takes precedence over one registered in its parent registry, if
+	 * there is one.
+	 * <p>
+	 * If there is no such {@link Processor} and
+	 * {@link #doResolveTargetSubTypes()} is enabled, the {@link Processor}
+	 * processing to a sub type of the target type is used whose source type comes
+	 * first in the order above; among those, the one whose target type has the
+	 * least amount of inheritance steps to the requested target type is the
+	 * most specific one. If there are multiple most specific {@link Processor}s,
+	 * an {@link AmbiguousProcessorException} is thrown.
+	 * <p>
+	 * If there is still no {@link Processor} and {@link #doComposeProcessors()}
+	 * is enabled, the shortest chain of {@link Processor}s from the source to the
+	 * target type is composed into a {@link Processor} instead; adjacent
+	 * {@link Processor}s of the chain are fused as by
+	 * {@link #identifyFusedProcessor(Class, Class, Class)} where possible.
+	 * <p>
+	 * The outcome of the search is cached per source/target type pair, including
+	 * the outcomes of not finding any and of finding ambiguous {@link Processor}s.
 	 * 
 	 * @param <SourceType>
 	 *            The source type to convert from
@@ -58,24 +493,297 @@ public class ProcessorRegistry {
 	 * @throws NoProcessorException
 	 *             If there wasn't a {@link Processor} to convert from any of the
 	 *             source type's super types to the target type.
+	 * @throws AmbiguousProcessorException
+	 *             If there are multiple equally specific {@link Processor}s
+	 *             processing to sub types of the target type.
 	 */
 	@SuppressWarnings("unchecked")
 	public <SourceType, TargetType> Processor<SourceType, TargetType> identifyProcessor(Class<SourceType> sourceType,
 			Class<TargetType> targetType) throws NoProcessorException {
-		Class<? super SourceType> workType = sourceType;
-		targetType = WRAPPER_TYPES.containsKey(targetType) ? (Class<TargetType>) WRAPPER_TYPES.get(targetType) : targetType;
-		if (this.processorRegistry.containsKey(targetType)) {
-			Map<Class<?>, Processor<?, ?>> targetTypeProcessors = this.processorRegistry
-					.get(targetType);
-			do {
-				if (targetTypeProcessors.containsKey(workType)) {
-					return (Processor<SourceType, TargetType>) targetTypeProcessors.get(workType);
+		Processor<?, ?> processor = this.resolutionCache.get(sourceType, targetType);
+		if (processor == null) {
+			processor = this.resolutionCache.putIfAbsent(sourceType, targetType,
+					resolveProcessor(sourceType, targetType));
+		}
+
+		if (processor == NO_PROCESSOR) {
+			throw new NoProcessorException(sourceType, WRAPPER_TYPES.getOrDefault(targetType, targetType));
+		} else if (processor == AMBIGUOUS_PROCESSOR) {
+			throw new AmbiguousProcessorException(sourceType, WRAPPER_TYPES.getOrDefault(targetType, targetType));
+		}
+		return (Processor<SourceType, TargetType>) processor;
+	}
+
+	/**
+	 * Identifies the {@link Processor} to process from the given to the given
+	 * full generic type.
+	 * <p>
+	 * A {@link Processor} whose type parameters are parameterized types, for
+	 * example <code>Processor&lt;Foo, List&lt;Bar&gt;&gt;</code>, is registered
+	 * by its full generic types, so it does not collide with other
+	 * {@link Processor}s to the same raw type. For every type in the source
+	 * type's order described at {@link #identifyProcessor(Class, Class)}, such a
+	 * {@link Processor} is looked up by the full generic pair; if there is none
+	 * but there are {@link Processor}s to different parameterizations of the
+	 * raw target type, there is no {@link Processor} for the pair. Otherwise,
+	 * the {@link Processor} is identified by the raw types.
+	 * <p>
+	 * The outcome of the search is cached per full generic pair.
+	 *
+	 * @param <SourceType>
+	 *            The source type to convert from
+	 * @param <TargetType>
+	 *            The target type to convert to
+	 * @param sourceType
+	 *            The source type to process; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to process to; might <b>not</b> be null.
+	 * @return A suitable {@link Processor}, never null
+	 * @throws NoProcessorException
+	 *             If there wasn't a {@link Processor} to convert from any of the
+	 *             source type's super types to the target type.
+	 */
+	@SuppressWarnings("unchecked")
+	public <SourceType, TargetType> Processor<SourceType, TargetType> identifyProcessor(Type sourceType,
+			Type targetType) throws NoProcessorException {
+		if (sourceType instanceof Class && targetType instanceof Class) {
+			return identifyProcessor((Class<SourceType>) sourceType, (Class<TargetType>) targetType);
+		}
+
+		Processor<?, ?> processor = this.genericResolutionCache.get(sourceType, targetType);
+		if (processor == null) {
+			processor = this.genericResolutionCache.putIfAbsent(sourceType, targetType,
+					resolveGenericProcessor(sourceType, targetType));
+		}
+
+		if (processor == NO_PROCESSOR) {
+			throw new NoProcessorException(TypeUtils.getRawType(sourceType, null),
+					TypeUtils.getRawType(targetType, null));
+		}
+		return (Processor<SourceType, TargetType>) processor;
+	}
+
+	private Processor<?, ?> resolveGenericProcessor(Type sourceType, Type targetType) {
+		Class<?> rawSourceType = TypeUtils.getRawType(sourceType, null);
+		Class<?> rawTargetType = TypeUtils.getRawType(targetType, null);
+		Type[] workTypes = sourceType instanceof Class ? LINEARIZATIONS.get(rawSourceType) : new Type[] { sourceType };
+		for (Type workType : workTypes) {
+			List<Type> pair = Arrays.asList(workType, targetType);
+			List<Class<?>> rawPair = Arrays.asList(TypeUtils.getRawType(workType, null), rawTargetType);
+			for (ProcessorRegistry registry = this; registry != null; registry = registry.parent) {
+				Processor<?, ?> processor = registry.genericProcessorTable.get(pair);
+				if (processor != null) {
+					return processor;
+				} else if (registry.genericPairs.contains(rawPair)) {
+					// THERE ARE PROCESSORS TO THE RAW TYPES, BUT NOT TO THIS PARAMETERIZATION
+					return NO_PROCESSOR;
 				}
-				workType = workType.getSuperclass();
-			} while (workType != Object.class);
+			}
+		}
+
+		try {
+			return identifyProcessor(rawSourceType, rawTargetType);
+		} catch (NoProcessorException e) {
+			return NO_PROCESSOR;
+		}
+	}
+
+	private Processor<?, ?> resolveProcessor(Class<?> sourceType, Class<?> targetType) {
+		targetType = WRAPPER_TYPES.getOrDefault(targetType, targetType);
+		Processor<?, ?> processor = resolveDirectProcessor(sourceType, targetType);
+		if (processor == null && this.resolveTargetSubTypes) {
+			processor = resolveSubTypeProcessor(sourceType, targetType);
+		}
+		if (processor == null && this.composeProcessors) {
+			processor = composeProcessor(sourceType, targetType);
+		}
+		return processor == null ? NO_PROCESSOR : processor;
+	}
+
+	private Processor<?, ?> resolveDirectProcessor(Class<?> sourceType, Class<?> targetType) {
+		for (Class<?> workType : LINEARIZATIONS.get(sourceType)) {
+			Processor<?, ?> processor = lookupProcessor(workType, targetType);
+			if (processor != null) {
+				return processor;
+			}
+		}
+		return null;
+	}
+
+	private Processor<?, ?> resolveSubTypeProcessor(Class<?> sourceType, Class<?> targetType) {
+		for (Class<?> workType : LINEARIZATIONS.get(sourceType)) {
+			Class<?> subType = null;
+			int subTypeDistance = Integer.MAX_VALUE;
+			boolean ambiguous = false;
+			for (Class<?> registeredType : getProcessableTargetTypes().getOrDefault(workType, Collections.emptyList())) {
+				if (registeredType != subType && targetType.isAssignableFrom(registeredType)) {
+					int distance = distance(registeredType, targetType);
+					if (distance < subTypeDistance) {
+						subType = registeredType;
+						subTypeDistance = distance;
+						ambiguous = false;
+					} else if (distance == subTypeDistance) {
+						ambiguous = true;
+					}
+				}
+			}
+
+			if (ambiguous) {
+				return AMBIGUOUS_PROCESSOR;
+			} else if (subType != null) {
+				return lookupProcessor(workType, subType);
+			}
+		}
+		return null;
+	}
+
+	private static int distance(Class<?> subType, Class<?> superType) {
+		// BREADTH FIRST SEARCH UPWARDS THE HIERARCHY, SO THE FIRST LEVEL CONTAINING THE SUPER TYPE IS THE DISTANCE
+		List<Class<?>> level = Collections.singletonList(subType);
+		for (int distance = 0; !level.isEmpty(); distance++) {
+			List<Class<?>> nextLevel = new ArrayList<>();
+			for (Class<?> type : level) {
+				if (type == superType) {
+					return distance;
+				} else if (type.getSuperclass() != null) {
+					nextLevel.add(type.getSuperclass());
+				}
+				nextLevel.addAll(Arrays.asList(type.getInterfaces()));
+			}
+			level = nextLevel;
+		}
+		return Integer.MAX_VALUE;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Processor<?, ?> composeProcessor(Class<?> sourceType, Class<?> targetType) {
+		if (sourceType == targetType) {
+			// AN EMPTY CHAIN IS NOT A PROCESSOR, SO THERE IS NONE FOR THE PAIR JUST AS WITHOUT COMPOSITION
+			return null;
+		}
+
+		// BREADTH FIRST SEARCH OVER THE REGISTERED TARGET TYPES, SO THE FIRST CHAIN FOUND IS THE SHORTEST
+		Map<Class<?>, Class<?>> predecessors = new HashMap<>();
+		predecessors.put(sourceType, sourceType);
+		Deque<Class<?>> types = new ArrayDeque<>();
+		types.add(sourceType);
+		while (!types.isEmpty() && !predecessors.containsKey(targetType)) {
+			Class<?> type = types.poll();
+			for (Class<?> workType : LINEARIZATIONS.get(type)) {
+				for (Class<?> nextType : getProcessableTargetTypes().getOrDefault(workType, Collections.emptyList())) {
+					if (!predecessors.containsKey(nextType)) {
+						predecessors.put(nextType, type);
+						types.add(nextType);
+					}
+				}
+			}
+		}
+
+		if (!predecessors.containsKey(targetType)) {
+			return null;
+		}
+
+		LinkedList<Processor<?, ?>> hops = new LinkedList<>();
+		for (Class<?> type = targetType; type != sourceType; type = predecessors.get(type)) {
+			hops.addFirst(resolveDirectProcessor(predecessors.get(type), type));
+		}
+
+		List<Processor<Object, Object>> chain = new ArrayList<>();
+		for (Processor<?, ?> hop : hops) {
+			Processor<?, ?> fused = chain.isEmpty() ? null : fuse(chain.get(chain.size() - 1), hop);
+			if (fused != null) {
+				chain.set(chain.size() - 1, (Processor<Object, Object>) fused);
+			} else {
+				chain.add((Processor<Object, Object>) hop);
+			}
+		}
+		return chain.size() == 1 ? chain.get(0)
+				: new ComposedProcessor((Processor<Object, Object>[]) chain.toArray(new Processor<?, ?>[chain.size()]));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Processor<?, ?> fuse(Processor<?, ?> first, Processor<?, ?> second) {
+		if (first instanceof FusibleProcessors.Emitter && second instanceof FusibleProcessors.Collector) {
+			Class<?> sinkType = EMITTER_SINK_TYPES.get(first.getClass());
+			if (sinkType != null && sinkType == COLLECTOR_SINK_TYPES.get(second.getClass())) {
+				return new FusedProcessor((FusibleProcessors.Emitter) first, (FusibleProcessors.Collector) second);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Identifies a {@link Processor} that processes from the given source over
+	 * the given intermediate to the given target type, using the
+	 * {@link Processor}s identified for both pairs.
+	 * <p>
+	 * If the {@link Processor} from the source to the intermediate type is a
+	 * {@link FusibleProcessors.Emitter} and the one from the intermediate to the
+	 * target type is a {@link FusibleProcessors.Collector} of the same sink type,
+	 * the returned {@link Processor} fuses both, so no intermediate object is
+	 * created. Otherwise, the returned {@link Processor} chains both.
+	 *
+	 * @param <SourceType>
+	 *            The source type to convert from
+	 * @param <IntermediateType>
+	 *            The intermediate type to convert over
+	 * @param <TargetType>
+	 *            The target type to convert to
+	 * @param sourceType
+	 *            The source type to process; might <b>not</b> be null.
+	 * @param intermediateType
+	 *            The intermediate type to process over; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to process to; might <b>not</b> be null.
+	 * @return A new {@link Processor}, never null
+	 * @throws NoProcessorException
+	 *             If there is no {@link Processor} for one of the pairs.
+	 */
+	@SuppressWarnings("unchecked")
+	public <SourceType, IntermediateType, TargetType> Processor<SourceType, TargetType> identifyFusedProcessor(
+			Class<SourceType> sourceType, Class<IntermediateType> intermediateType, Class<TargetType> targetType)
+			throws NoProcessorException {
+		Processor<SourceType, IntermediateType> first = identifyProcessor(sourceType, intermediateType);
+		Processor<IntermediateType, TargetType> second = identifyProcessor(intermediateType, targetType);
+		Processor<?, ?> fused = fuse(first, second);
+		return (Processor<SourceType, TargetType>) (fused != null ? fused
+				: new ComposedProcessor((Processor<Object, Object>[]) new Processor<?, ?>[] { first, second }));
+	}
+
+	private Map<Class<?>, List<Class<?>>> getProcessableTargetTypes() {
+		Map<Class<?>, List<Class<?>>> processableTargetTypes = this.processableTargetTypes;
+		if (processableTargetTypes == null) {
+			Map<Class<?>, List<Class<?>>> targetTypes = new LinkedHashMap<>();
+			this.processorTable.forEach((sourceType, targetType, processor) -> targetTypes
+					.computeIfAbsent(sourceType, type -> new ArrayList<>()).add(targetType));
+			if (this.parent != null) {
+				this.parent.getProcessableTargetTypes().forEach((sourceType, parentTargetTypes) -> targetTypes
+						.computeIfAbsent(sourceType, type -> new ArrayList<>()).addAll(parentTargetTypes));
+			}
+			processableTargetTypes = this.processableTargetTypes = targetTypes;
 		}
+		return processableTargetTypes;
+	}
 
-		throw new NoProcessorException(sourceType, targetType);
+	private static Class<?>[] linearize(Class<?> type) {
+		Set<Class<?>> linearization = new LinkedHashSet<>();
+		Deque<Class<?>> interfaces = new ArrayDeque<>();
+		for (Class<?> workType = type; workType != null && workType != Object.class; workType = workType.getSuperclass()) {
+			if (workType.isInterface()) {
+				interfaces.add(workType);
+			} else {
+				linearization.add(workType);
+				interfaces.addAll(Arrays.asList(workType.getInterfaces()));
+			}
+		}
+		while (!interfaces.isEmpty()) {
+			Class<?> interfaceType = interfaces.poll();
+			if (linearization.add(interfaceType)) {
+				interfaces.addAll(Arrays.asList(interfaceType.getInterfaces()));
+			}
+		}
+		linearization.add(Object.class);
+		return linearization.toArray(new Class<?>[0]);
 	}
 
 	/**
@@ -88,6 +796,9 @@ public class ProcessorRegistry {
 	 * Otherwise it is attempted to create a {@link Processor} that works by using
 	 * the {@link Enum}'s names; this requires the names of {@link Enum} values in
 	 * both types to be equal.
+	 * <p>
+	 * Such a {@link Processor} is created at most once per source/target type
+	 * pair, even if identified by multiple threads concurrently.
 	 * 
 	 * @param <SourceType>
 	 *            The source type to convert from
@@ -105,29 +816,31 @@ public class ProcessorRegistry {
 	@SuppressWarnings("unchecked")
 	public <SourceType extends Enum<SourceType>, TargetType extends Enum<TargetType>> Processor<SourceType, TargetType> identifyNamedProcessor(
 			Class<SourceType> sourceType, Class<TargetType> targetType) {
-		if (!this.processorRegistry.containsKey(sourceType)) {
-			this.processorRegistry.put(sourceType, new HashMap<>());
-		}
-		Processor<SourceType, TargetType> processor;
-		if (!this.processorRegistry.get(sourceType).containsKey(targetType)) {
-			for (SourceType value : sourceType.getEnumConstants()) {
-				try {
-					Enum.valueOf(targetType, value.name());
-				} catch (IllegalArgumentException e) {
-					throw new ProcessingException("The type '" + sourceType.getSimpleName() + "' cannot be mapped to '"
-							+ targetType.getSimpleName() + "' by name; there is at least one enum value ('"
-							+ value.name() + "') where there is no equally named value in the target enum type.");
-				}
-			}
+		Processor<SourceType, TargetType> processor = (Processor<SourceType, TargetType>) lookupProcessor(sourceType,
+				targetType);
+		if (processor != null) {
+			return processor;
+		}
 
-			processor = (sourceValue, processingService) -> sourceValue == null ? null
-					: Enum.valueOf(targetType, sourceValue.name());
-			this.processorRegistry.get(sourceType).put(targetType, processor);
-		} else {
-			processor = (Processor<SourceType, TargetType>) this.processorRegistry.get(sourceType)
-					.get(targetType);
+		return (Processor<SourceType, TargetType>) this.namedProcessors.computeIfAbsent(sourceType, targetType,
+				(s, t) -> createNamedProcessor(sourceType, targetType));
+	}
+
+	private static <SourceType extends Enum<SourceType>, TargetType extends Enum<TargetType>> Processor<SourceType, TargetType> createNamedProcessor(
+			Class<SourceType> sourceType, Class<TargetType> targetType) {
+		SourceType[] sourceValues = sourceType.getEnumConstants();
+		TargetType[] translation = Arrays.copyOf(targetType.getEnumConstants(), sourceValues.length);
+		for (SourceType value : sourceValues) {
+			try {
+				translation[value.ordinal()] = Enum.valueOf(targetType, value.name());
+			} catch (IllegalArgumentException e) {
+				throw new ProcessingException("The type '" + sourceType.getSimpleName() + "' cannot be mapped to '"
+						+ targetType.getSimpleName() + "' by name; there is at least one enum value ('"
+						+ value.name() + "') where there is no equally named value in the target enum type.");
+			}
 		}
-		return processor;
+
+		return new EnumProcessor<>(translation);
 	}
 
 	/**
@@ -140,6 +853,9 @@ public class ProcessorRegistry {
 	 * Otherwise it is attempted to create a {@link Processor} that works by using
 	 * the {@link Enum}'s ordinals; this requires the amount of {@link Enum} values
 	 * in both types to be equal.
+	 * <p>
+	 * Such a {@link Processor} is created at most once per source/target type
+	 * pair, even if identified by multiple threads concurrently.
 	 * 
 	 * @param <SourceType>
 	 *            The source type to convert from
@@ -157,26 +873,122 @@ public class ProcessorRegistry {
 	@SuppressWarnings("unchecked")
 	public <SourceType extends Enum<SourceType>, TargetType extends Enum<TargetType>> Processor<SourceType, TargetType> identifyOrdinalProcessor(
 			Class<SourceType> sourceType, Class<TargetType> targetType) throws ProcessingException {
-		if (!this.processorRegistry.containsKey(targetType)) {
-			this.processorRegistry.put(targetType, new HashMap<>());
+		Processor<SourceType, TargetType> processor = (Processor<SourceType, TargetType>) lookupProcessor(sourceType,
+				targetType);
+		if (processor != null) {
+			return processor;
 		}
-		Processor<SourceType, TargetType> processor;
-		if (!this.processorRegistry.get(targetType).containsKey(sourceType)) {
-			if (sourceType.getEnumConstants().length != targetType.getEnumConstants().length) {
-				throw new ProcessingException("The type '" + sourceType.getSimpleName() + "' cannot be mapped to '"
-						+ targetType.getSimpleName()
-						+ "' by ordinal; the amount of enum values are differing between source/target enum type: ("
-						+ sourceType.getEnumConstants().length + "|" + targetType.getEnumConstants().length + ").");
+
+		return (Processor<SourceType, TargetType>) this.ordinalProcessors.computeIfAbsent(sourceType, targetType,
+				(s, t) -> createOrdinalProcessor(sourceType, targetType));
+	}
+
+	private static <SourceType extends Enum<SourceType>, TargetType extends Enum<TargetType>> Processor<SourceType, TargetType> createOrdinalProcessor(
+			Class<SourceType> sourceType, Class<TargetType> targetType) {
+		if (sourceType.getEnumConstants().length != targetType.getEnumConstants().length) {
+			throw new ProcessingException("The type '" + sourceType.getSimpleName() + "' cannot be mapped to '"
+					+ targetType.getSimpleName()
+					+ "' by ordinal; the amount of enum values are differing between source/target enum type: ("
+					+ sourceType.getEnumConstants().length + "|" + targetType.getEnumConstants().length + ").");
+		}
+
+		return new EnumProcessor<>(targetType.getEnumConstants());
+	}
+
+	// ############################################################################################################
+	// ################################################# WARM UP ##################################################
+	// ############################################################################################################
+
+	/**
+	 * Returns all source/target type pairs a {@link Processor} has been
+	 * identified for so far.
+	 * <p>
+	 * The pairs can be recorded to warm up a future {@link ProcessorRegistry}
+	 * using {@link #warmUp(Collection)}.
+	 *
+	 * @return A new {@link List} of pairs, never null
+	 */
+	public List<WarmUpReport.Pair> getResolvedPairs() {
+		List<WarmUpReport.Pair> pairs = new ArrayList<>();
+		this.resolutionCache.forEach((sourceType, targetType, processor) -> {
+			if (processor != NO_PROCESSOR && processor != AMBIGUOUS_PROCESSOR) {
+				pairs.add(new WarmUpReport.Pair(sourceType, targetType, WarmUpReport.Resolution.PROCESSOR));
 			}
+		});
+		this.namedProcessors.forEach((sourceType, targetType, processor) -> pairs
+				.add(new WarmUpReport.Pair(sourceType, targetType, WarmUpReport.Resolution.NAMED)));
+		this.ordinalProcessors.forEach((sourceType, targetType, processor) -> pairs
+				.add(new WarmUpReport.Pair(sourceType, targetType, WarmUpReport.Resolution.ORDINAL)));
+		return pairs;
+	}
 
-			processor = (sourceValue, processingService) -> sourceValue == null ? null
-					: targetType.getEnumConstants()[sourceValue.ordinal()];
-			this.processorRegistry.get(targetType).put(sourceType, processor);
-		} else {
-			processor = (Processor<SourceType, TargetType>) this.processorRegistry.get(targetType)
-					.get(sourceType);
+	/**
+	 * Eagerly identifies the {@link Processor}s of all source/target type pairs
+	 * registered in this registry and its parent registries.
+	 *
+	 * @param pairs
+	 *            Additional pairs to identify {@link Processor}s for, for example
+	 *            {@link Enum} pairs or pairs recorded using
+	 *            {@link #getResolvedPairs()}; might be empty or contain nulls.
+	 * @return A new {@link WarmUpReport}, never null
+	 * @see #warmUp(Collection)
+	 */
+	public WarmUpReport warmUp(WarmUpReport.Pair... pairs) {
+		return warmUp(Arrays.asList(pairs));
+	}
+
+	/**
+	 * Eagerly identifies the {@link Processor}s of all source/target type pairs
+	 * registered in this registry and its parent registries.
+	 * <p>
+	 * Identifying instantiates lazily registered {@link Processor}s, synthesizes
+	 * {@link Enum} {@link Processor}s and fills the resolution cache, so the
+	 * first processings after the warm up do not have to. Failing
+	 * identifications do not abort the warm up, but are listed in the returned
+	 * {@link WarmUpReport}.
+	 *
+	 * @param pairs
+	 *            Additional pairs to identify {@link Processor}s for, for example
+	 *            {@link Enum} pairs or pairs recorded using
+	 *            {@link #getResolvedPairs()}; might be null, empty or contain
+	 *            nulls.
+	 * @return A new {@link WarmUpReport}, never null
+	 */
+	public WarmUpReport warmUp(Collection<WarmUpReport.Pair> pairs) {
+		Set<WarmUpReport.Pair> warmUpPairs = new LinkedHashSet<>();
+		getProcessableTargetTypes().forEach((sourceType, targetTypes) -> targetTypes
+				.forEach(targetType -> warmUpPairs.add(WarmUpReport.Pair.of(sourceType, targetType))));
+		if (pairs != null) {
+			pairs.stream().filter(Objects::nonNull).forEach(warmUpPairs::add);
+		}
+
+		long start = System.nanoTime();
+		List<WarmUpReport.Entry> entries = new ArrayList<>();
+		for (WarmUpReport.Pair pair : warmUpPairs) {
+			long pairStart = System.nanoTime();
+			RuntimeException failure = null;
+			try {
+				warmUp(pair);
+			} catch (RuntimeException e) {
+				failure = e;
+			}
+			entries.add(new WarmUpReport.Entry(pair, System.nanoTime() - pairStart, failure));
+		}
+		return new WarmUpReport(entries, System.nanoTime() - start);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void warmUp(WarmUpReport.Pair pair) {
+		switch (pair.getResolution()) {
+		case NAMED:
+			identifyNamedProcessor((Class) pair.getSourceType(), (Class) pair.getTargetType());
+			break;
+		case ORDINAL:
+			identifyOrdinalProcessor((Class) pair.getSourceType(), (Class) pair.getTargetType());
+			break;
+		default:
+			identifyProcessor(pair.getSourceType(), pair.getTargetType());
 		}
-		return processor;
 	}
 
 	// ############################################################################################################
@@ -220,60 +1032,393 @@ public class ProcessorRegistry {
 	 */
 	public static <SourceType, TargetType> ProcessorRegistry of(
 			Collection<? extends Processor<?, ?>> processors) {
-		Map<Class<?>, Map<Class<?>, Processor<?, ?>>> processorRegistry = new HashMap<>();
+		return of(null, processors, false);
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorRegistry} of the given {@link Processor}s,
+	 * determining the {@link Processor}s' generic type parameters in parallel.
+	 * <p>
+	 * The {@link Processor}s are registered in the given order nevertheless, so
+	 * the outcome is the same as the one of {@link #of(Processor...)}. Parallel
+	 * determination pays off for large amounts of {@link Processor}s.
+	 * 
+	 * @param processors
+	 *            The {@link Processor}s to build the
+	 *            {@link ProcessorRegistry} from; might be empty or contain nulls.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 */
+	public static ProcessorRegistry ofParallel(Processor<?, ?>... processors) {
+		return ofParallel(Arrays.asList(processors));
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorRegistry} of the given {@link Processor}s,
+	 * determining the {@link Processor}s' generic type parameters in parallel.
+	 * <p>
+	 * The {@link Processor}s are registered in the given {@link Collection}'s
+	 * order nevertheless, so the outcome is the same as the one of
+	 * {@link #of(Collection)}. Parallel determination pays off for large amounts
+	 * of {@link Processor}s.
+	 * 
+	 * @param processors
+	 *            The {@link Processor}s to build the
+	 *            {@link ProcessorRegistry} from; might be null, empty or contain
+	 *            nulls.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 */
+	public static ProcessorRegistry ofParallel(Collection<? extends Processor<?, ?>> processors) {
+		return of(null, processors, true);
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new child {@link ProcessorRegistry} of the given
+	 * {@link Processor}s that falls back to the given parent
+	 * {@link ProcessorRegistry} for all pairs it has no {@link Processor} for
+	 * itself.
+	 * <p>
+	 * {@link Processor}s of the child override {@link Processor}s of the parent
+	 * for the same source/target type pair. The child caches the outcome of
+	 * resolving a pair itself, so resolving a pair that falls through to the
+	 * parent costs the same as resolving a pair of the child after the first
+	 * time.
+	 * <p>
+	 * The child takes over the parent's {@link #doComposeProcessors()} and
+	 * {@link #doResolveTargetSubTypes()} options.
+	 *
+	 * @param parent
+	 *            The parent {@link ProcessorRegistry}; might <b>not</b> be null.
+	 * @param processors
+	 *            The {@link Processor}s to build the child
+	 *            {@link ProcessorRegistry} from; might be empty or contain nulls.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 */
+	public static ProcessorRegistry of(ProcessorRegistry parent, Processor<?, ?>... processors) {
+		return of(parent, Arrays.asList(processors));
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new child {@link ProcessorRegistry} of the given
+	 * {@link Processor}s that falls back to the given parent
+	 * {@link ProcessorRegistry} for all pairs it has no {@link Processor} for
+	 * itself.
+	 * <p>
+	 * {@link Processor}s of the child override {@link Processor}s of the parent
+	 * for the same source/target type pair. The child caches the outcome of
+	 * resolving a pair itself, so resolving a pair that falls through to the
+	 * parent costs the same as resolving a pair of the child after the first
+	 * time.
+	 * <p>
+	 * The child takes over the parent's {@link #doComposeProcessors()} and
+	 * {@link #doResolveTargetSubTypes()} options.
+	 *
+	 * @param parent
+	 *            The parent {@link ProcessorRegistry}; might <b>not</b> be null.
+	 * @param processors
+	 *            The {@link Processor}s to build the child
+	 *            {@link ProcessorRegistry} from; might be null, empty or contain
+	 *            nulls.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 */
+	public static ProcessorRegistry of(ProcessorRegistry parent, Collection<? extends Processor<?, ?>> processors) {
+		if (parent == null) {
+			throw new IllegalArgumentException("Cannot create a child processor registry of a null parent");
+		}
+		return of(parent, processors, false);
+	}
+
+	private static ProcessorRegistry of(ProcessorRegistry parent, Collection<? extends Processor<?, ?>> processors,
+			boolean parallel) {
+		PairTable.Builder<Processor<?, ?>> processorTable = new PairTable.Builder<>();
+		Map<List<Type>, Processor<?, ?>> genericProcessorTable = new HashMap<>();
 
 		if (processors != null) {
+			// RAW AND GENERIC TYPES ARE RESOLVED IN ONE REFLECTIVE PASS PER PROCESSOR, WHICH IS THE EXPENSIVE PART
+			List<ProcessorTypes> processorTypes = (parallel ? processors.parallelStream() : processors.stream())
+					.map(processor -> processor == null ? null : typesOf(processor))
+					.collect(Collectors.toList());
+
+			// COLLECT THE GUARDED AND VERSIONED PROCESSORS FIRST, SO THEY CAN BE COMPILED WITH THE REGULAR ONE OF THEIR PAIR
+			Map<List<Class<?>>, List<GuardedProcessor<?, ?>>> guardedProcessors = new LinkedHashMap<>();
+			Map<List<Class<?>>, List<VersionedProcessor<?, ?>>> versionedProcessors = new LinkedHashMap<>();
+			// PROCESSORS OF GENERIC TYPES ARE REGISTERED BY THEIR FULL TYPES, AND BY THEIR RAW TYPES IF THOSE ARE UNIQUE;
+			// THE REVERSE DIRECTION OF A BI PROCESSOR COUNTS AS A PAIR OF ITS OWN
+			Map<List<Class<?>>, Integer> genericPairCounts = new HashMap<>();
+			Iterator<ProcessorTypes> typeIterator = processorTypes.iterator();
 			for (Processor<?, ?> processor : processors) {
-				if (processor != null) {
-					Map<TypeVariable<?>, Type> types = TypeUtils.getTypeArguments(processor.getClass(),
-							Processor.class);
-					Class<?> sourceType = validateProcessorTypeParameter(processor,
-							types.get(Processor.class.getTypeParameters()[0]));
-					Class<?> targetType = validateProcessorTypeParameter(processor,
-							types.get(Processor.class.getTypeParameters()[1]));
+				ProcessorTypes processorType = typeIterator.next();
+				if (processor instanceof GuardedProcessor) {
+					guardedProcessors.computeIfAbsent(Arrays.asList(processorType.types), pair -> new ArrayList<>())
+							.add((GuardedProcessor<?, ?>) processor);
+				} else if (processor instanceof VersionedProcessor) {
+					versionedProcessors.computeIfAbsent(Arrays.asList(processorType.types), pair -> new ArrayList<>())
+							.add((VersionedProcessor<?, ?>) processor);
+				} else if (processor != null && processorType.genericTypes.length > 0) {
+					genericPairCounts.merge(Arrays.asList(processorType.types), 1, Integer::sum);
+					if (processor instanceof ProcessingService.BiProcessor) {
+						genericPairCounts.merge(Arrays.asList(processorType.types[1], processorType.types[0]), 1,
+								Integer::sum);
+					}
+				}
+			}
 
-					@SuppressWarnings("unchecked")
-					Processor<SourceType, TargetType> toTargetConverter = (Processor<SourceType, TargetType>) processor;
-					Processor<SourceType, TargetType> function = (source,
-							conversionService) -> toTargetConverter.process(source, conversionService);
+			Map<List<Class<?>>, Processor<?, ?>> fallbackProcessors = new HashMap<>();
+			typeIterator = processorTypes.iterator();
+			for (Processor<?, ?> processor : processors) {
+				ProcessorTypes processorType = typeIterator.next();
+				if (processor != null && !(processor instanceof GuardedProcessor)
+						&& !(processor instanceof VersionedProcessor)) {
+					Class<?>[] types = processorType.types;
+					Type[] genericTypes = processorType.genericTypes;
+					if (genericTypes.length > 0) {
+						addGenericFunction(genericTypes[0], genericTypes[1], genericProcessorTable, processor);
+						if (processor instanceof ProcessingService.BiProcessor) {
+							addGenericFunction(genericTypes[1], genericTypes[0], genericProcessorTable,
+									new ReverseProcessor<>((ProcessingService.BiProcessor<?, ?>) processor));
+						}
+					}
 
-					addFunction(sourceType, targetType, processorRegistry, function);
+					if (types.length == 0) {
+						throw new ProcessorTypeException(processor);
+					}
 
-					if (processor instanceof ProcessingService.BiProcessor) {
-						@SuppressWarnings("unchecked")
-						ProcessingService.BiProcessor<SourceType, TargetType> toSourceProcessor = (ProcessingService.BiProcessor<SourceType, TargetType>) processor;
-						Processor<TargetType, SourceType> function2 = (target,
-								processingService) -> toSourceProcessor.reverse(target, processingService);
+					boolean reverse = processor instanceof ProcessingService.BiProcessor && (genericTypes.length == 0
+							|| genericPairCounts.get(Arrays.asList(types[1], types[0])) == 1);
+					if (genericTypes.length > 0 && genericPairCounts.get(Arrays.asList(types)) > 1) {
+						if (reverse) {
+							addFunction(types[1], types[0], processorTable,
+									new ReverseProcessor<>((ProcessingService.BiProcessor<?, ?>) processor));
+						}
+					} else if (guardedProcessors.containsKey(Arrays.asList(types))
+							|| versionedProcessors.containsKey(Arrays.asList(types))) {
+						if (fallbackProcessors.putIfAbsent(Arrays.asList(types), processor) != null) {
+							throw new AmbiguousProcessorException(types[0], types[1]);
+						}
+						if (reverse) {
+							addFunction(types[1], types[0], processorTable,
+									new ReverseProcessor<>((ProcessingService.BiProcessor<?, ?>) processor));
+						}
+					} else {
+						register(types[0], types[1], processor, reverse, processorTable);
+					}
+				}
+			}
+
+			for (Map.Entry<List<Class<?>>, List<GuardedProcessor<?, ?>>> entry : guardedProcessors.entrySet()) {
+				Class<?> sourceType = entry.getKey().get(0);
+				Class<?> targetType = entry.getKey().get(1);
+				Processor<?, ?> processor = new DecisionProcessor(sourceType, targetType, entry.getValue(),
+						fallbackProcessors.get(entry.getKey()));
+				if (versionedProcessors.containsKey(entry.getKey())) {
+					fallbackProcessors.put(entry.getKey(), processor);
+				} else {
+					addFunction(sourceType, targetType, processorTable, processor);
+				}
+			}
+
+			for (Map.Entry<List<Class<?>>, List<VersionedProcessor<?, ?>>> entry : versionedProcessors.entrySet()) {
+				Class<?> sourceType = entry.getKey().get(0);
+				Class<?> targetType = entry.getKey().get(1);
+				addFunction(sourceType, targetType, processorTable, new VersionProcessor(sourceType, targetType,
+						entry.getValue(), fallbackProcessors.get(entry.getKey())));
+			}
+		}
 
-						addFunction(targetType, sourceType, processorRegistry, function2);
+		return new ProcessorRegistry(parent, processorTable.build(), genericProcessorTable);
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorRegistry} of the {@link Processor}s of the
+	 * given {@link ProcessorIndex}es.
+	 * <p>
+	 * As the source/target types of indexed {@link Processor}s are known up
+	 * front, no reflection on the {@link Processor}s' generic type parameters is
+	 * necessary. Every indexed {@link Processor} is instantiated using its
+	 * entry's factory not before one of its source/target type pairs is resolved
+	 * for the first time; a failing factory will cause a
+	 * {@link ProcessingException} upon that resolution.
+	 * <p>
+	 * Note that an index only records the raw source/target types of its
+	 * {@link Processor}s, so they are registered by those only; indexed
+	 * {@link Processor}s to different parameterizations of the same raw types,
+	 * which {@link #of(Processor...)} would register by their full generic
+	 * types, cause an {@link AmbiguousProcessorException}.
+	 *
+	 * @param indexes
+	 *            The {@link ProcessorIndex}es to build the
+	 *            {@link ProcessorRegistry} from; might be empty or contain nulls.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 */
+	public static ProcessorRegistry ofIndex(ProcessorIndex... indexes) {
+		return ofIndex(Arrays.asList(indexes));
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorRegistry} of the {@link Processor}s of the
+	 * given {@link ProcessorIndex}es.
+	 * <p>
+	 * As the source/target types of indexed {@link Processor}s are known up
+	 * front, no reflection on the {@link Processor}s' generic type parameters is
+	 * necessary. Every indexed {@link Processor} is instantiated using its
+	 * entry's factory not before one of its source/target type pairs is resolved
+	 * for the first time; a failing factory will cause a
+	 * {@link ProcessingException} upon that resolution.
+	 * <p>
+	 * Note that an index only records the raw source/target types of its
+	 * {@link Processor}s, so they are registered by those only; indexed
+	 * {@link Processor}s to different parameterizations of the same raw types,
+	 * which {@link #of(Processor...)} would register by their full generic
+	 * types, cause an {@link AmbiguousProcessorException}.
+	 *
+	 * @param indexes
+	 *            The {@link ProcessorIndex}es to build the
+	 *            {@link ProcessorRegistry} from; might be null, empty or contain
+	 *            nulls.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 */
+	public static ProcessorRegistry ofIndex(Collection<? extends ProcessorIndex> indexes) {
+		PairTable.Builder<Processor<?, ?>> processorTable = new PairTable.Builder<>();
+
+		if (indexes != null) {
+			for (ProcessorIndex index : indexes) {
+				if (index != null) {
+					for (ProcessorIndex.Entry entry : index.getEntries()) {
+						LazyProcessor processor = new LazyProcessor(entry, null);
+						addFunction(entry.getSourceType(), entry.getTargetType(), processorTable, processor);
+						if (entry.isBidirectional()) {
+							addFunction(entry.getTargetType(), entry.getSourceType(), processorTable,
+									new LazyProcessor(entry, processor));
+						}
 					}
 				}
 			}
 		}
 
-		return new ProcessorRegistry(processorRegistry);
+		return new ProcessorRegistry(null, processorTable.build());
 	}
 
-	private static Class<?> validateProcessorTypeParameter(Processor<?, ?> converter,
-			Type typeParameter) {
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorRegistry} of the {@link Processor}s of all
+	 * {@link ProcessorIndex}es discoverable by the {@link ServiceLoader} using
+	 * the current thread's context {@link ClassLoader}.
+	 *
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 * @see #ofIndex(Collection)
+	 */
+	public static ProcessorRegistry ofDiscovered() {
+		return ofDiscovered(Thread.currentThread().getContextClassLoader());
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ProcessorRegistry} of the {@link Processor}s of all
+	 * {@link ProcessorIndex}es discoverable by the {@link ServiceLoader} using
+	 * the given {@link ClassLoader}.
+	 *
+	 * @param classLoader
+	 *            The {@link ClassLoader} to discover {@link ProcessorIndex}es
+	 *            with; might be null to use the system {@link ClassLoader}.
+	 * @return A new {@link ProcessorRegistry} instance, never null
+	 * @see #ofIndex(Collection)
+	 */
+	public static ProcessorRegistry ofDiscovered(ClassLoader classLoader) {
+		List<ProcessorIndex> indexes = new ArrayList<>();
+		ServiceLoader.load(ProcessorIndex.class, classLoader).forEach(indexes::add);
+		return ofIndex(indexes);
+	}
+
+	private static Processor<?, ?> instantiate(ProcessorIndex.Entry entry) {
+		Processor<?, ?> processor = entry.getFactory().get();
+		if (processor == null) {
+			throw new ProcessingException("The factory of the indexed processor for '"
+					+ entry.getSourceType().getSimpleName() + "' to '"
+					+ entry.getTargetType().getSimpleName() + "' returned null.");
+		} else if (entry.isBidirectional() && !(processor instanceof ProcessingService.BiProcessor)) {
+			throw new ProcessingException("The indexed processor '" + processor.getClass().getSimpleName()
+					+ "' is declared bidirectional, but is no "
+					+ ProcessingService.BiProcessor.class.getSimpleName() + ".");
+		}
+		return processor;
+	}
+
+	private static void register(Class<?> sourceType, Class<?> targetType, Processor<?, ?> processor,
+			boolean bidirectional, PairTable.Builder<Processor<?, ?>> processorTable) {
+		addFunction(sourceType, targetType, processorTable, processor);
+
+		if (bidirectional) {
+			addFunction(targetType, sourceType, processorTable,
+					new ReverseProcessor<>((ProcessingService.BiProcessor<?, ?>) processor));
+		}
+	}
+
+	private static ProcessorTypes typesOf(Processor<?, ?> processor) {
+		if (processor instanceof TypedProcessor) {
+			return new ProcessorTypes(((TypedProcessor<?, ?>) processor).getSourceType(),
+					((TypedProcessor<?, ?>) processor).getTargetType());
+		}
+		return PROCESSOR_TYPES.get(processor.getClass());
+	}
+
+	static Class<?>[] getProcessorTypes(Processor<?, ?> processor) {
+		Class<?>[] types = typesOf(processor).types;
+		if (types.length == 0) {
+			throw new ProcessorTypeException(processor);
+		}
+		return types;
+	}
+
+	private static ClassValue<Class<?>> sinkTypes(Class<?> fusibleType) {
+		return new ClassValue<Class<?>>() {
+
+			@Override
+			protected Class<?> computeValue(Class<?> processorType) {
+				return toProcessorTypeParameter(TypeUtils.getTypeArguments(processorType, fusibleType)
+						.get(fusibleType.getTypeParameters()[2]));
+			}
+		};
+	}
+
+	private static Class<?> toProcessorTypeParameter(Type typeParameter) {
 		if (typeParameter instanceof Class) {
 			return (Class<?>) typeParameter;
 		} else if (typeParameter instanceof ParameterizedType) {
 			return (Class<?>) ((ParameterizedType) typeParameter).getRawType();
 		} else {
-			throw new ProcessorTypeException(converter);
+			return null;
 		}
 	}
 
-	private static <SourceType, TargetType> void addFunction(Class<?> sourceType, Class<?> targetType,
-			Map<Class<?>, Map<Class<?>, Processor<?, ?>>> processingRegistry,
-			Processor<SourceType, TargetType> function) {
-		if (!processingRegistry.containsKey(targetType)) {
-			processingRegistry.put(targetType, new HashMap<>());
-		} else if (processingRegistry.get(targetType).containsKey(sourceType)) {
-			throw new AmbiguousProcessorException(sourceType, targetType);
+	private static boolean isGeneric(Type typeParameter) {
+		return typeParameter instanceof ParameterizedType && !TypeUtils.containsTypeVariables(typeParameter);
+	}
+
+	private static void addGenericFunction(Type sourceType, Type targetType,
+			Map<List<Type>, Processor<?, ?>> genericProcessorTable, Processor<?, ?> function) {
+		if (genericProcessorTable.putIfAbsent(Arrays.asList(sourceType, targetType), function) != null) {
+			throw new AmbiguousProcessorException(TypeUtils.getRawType(sourceType, null),
+					TypeUtils.getRawType(targetType, null));
 		}
+	}
 
-		processingRegistry.get(targetType).put(sourceType, function);
+	private static void addFunction(Class<?> sourceType, Class<?> targetType,
+			PairTable.Builder<Processor<?, ?>> processorTable, Processor<?, ?> function) {
+		if (processorTable.putIfAbsent(sourceType, targetType, function) != null) {
+			throw new AmbiguousProcessorException(sourceType, targetType);
+		}
 	}
 }
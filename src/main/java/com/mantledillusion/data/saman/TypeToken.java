@@ -0,0 +1,118 @@
+package com.mantledillusion.data.saman;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+
+/**
+ * Token of a full generic type such as <code>List&lt;Foo&gt;</code>, to
+ * process to where a raw {@link Class} is not precise enough.
+ * <p>
+ * A token is created by subclassing anonymously, which captures the type
+ * argument:
+ * 
+ * <pre>
+ * TypeToken&lt;List&lt;Foo&gt;&gt; token = new TypeToken&lt;List&lt;Foo&gt;&gt;() {};
+ * </pre>
+ * 
+ * Tokens are equal if their types are equal, so they can be created once and
+ * reused as well as created anew for every call.
+ *
+ * @param <T>
+ *            The type this token represents
+ */
+public abstract class TypeToken<T> {
+
+	private static final class Explicit<T> extends TypeToken<T> {
+
+		private Explicit(Type type) {
+			super(type);
+		}
+	}
+
+	private final Type type;
+	private final Class<T> rawType;
+
+	/**
+	 * Constructor for anonymous subclasses capturing their type argument.
+	 */
+	protected TypeToken() {
+		Type superType = getClass().getGenericSuperclass();
+		if (!(superType instanceof ParameterizedType)) {
+			throw new IllegalStateException("A type token has to be created with a type argument");
+		}
+		this.type = validate(((ParameterizedType) superType).getActualTypeArguments()[0]);
+		this.rawType = rawTypeOf(this.type);
+	}
+
+	private TypeToken(Type type) {
+		this.type = validate(type);
+		this.rawType = rawTypeOf(type);
+	}
+
+	private static Type validate(Type type) {
+		if (type == null) {
+			throw new IllegalArgumentException("Cannot create a type token of a null type");
+		} else if (TypeUtils.containsTypeVariables(type)) {
+			throw new IllegalArgumentException("Cannot create a type token of the type '" + type.getTypeName()
+					+ "' containing type variables");
+		}
+		return type;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Class<T> rawTypeOf(Type type) {
+		Class<?> rawType = TypeUtils.getRawType(type, null);
+		if (rawType == null) {
+			throw new IllegalArgumentException("Cannot create a type token of the type '" + type.getTypeName()
+					+ "' without a raw type");
+		}
+		return (Class<T>) rawType;
+	}
+
+	/**
+	 * Returns the full generic type this token represents.
+	 *
+	 * @return The type, never null
+	 */
+	public Type getType() {
+		return this.type;
+	}
+
+	/**
+	 * Returns the raw {@link Class} of the type this token represents.
+	 *
+	 * @return The raw type, never null
+	 */
+	public Class<T> getRawType() {
+		return this.rawType;
+	}
+
+	@Override
+	public final int hashCode() {
+		return this.type.hashCode();
+	}
+
+	@Override
+	public final boolean equals(Object obj) {
+		return this == obj || (obj instanceof TypeToken && this.type.equals(((TypeToken<?>) obj).type));
+	}
+
+	@Override
+	public String toString() {
+		return this.type.getTypeName();
+	}
+
+	/**
+	 * Factory method.
+	 *
+	 * @param type
+	 *            The type to create a token of; might <b>not</b> be null and
+	 *            might <b>not</b> contain type variables.
+	 * @return A new {@link TypeToken} instance, never null
+	 */
+	public static TypeToken<?> of(Type type) {
+		return new Explicit<>(type);
+	}
+}
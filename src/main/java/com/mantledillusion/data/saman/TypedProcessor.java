@@ -0,0 +1,33 @@
+package com.mantledillusion.data.saman;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+
+/**
+ * A {@link Processor} that declares its source/target types itself.
+ * <p>
+ * The {@link ProcessorRegistry} uses the declared types instead of reflecting
+ * on the {@link Processor}'s generic type parameters, so generic
+ * {@link Processor} implementations that are instantiated for specific types
+ * at runtime can be registered.
+ *
+ * @param <SourceType>
+ *            The source type to process from
+ * @param <TargetType>
+ *            The target type to process to
+ */
+public interface TypedProcessor<SourceType, TargetType> extends Processor<SourceType, TargetType> {
+
+	/**
+	 * Returns the source type this {@link Processor} processes from.
+	 *
+	 * @return The source type, never null
+	 */
+	Class<SourceType> getSourceType();
+
+	/**
+	 * Returns the target type this {@link Processor} processes to.
+	 *
+	 * @return The target type, never null
+	 */
+	Class<TargetType> getTargetType();
+}
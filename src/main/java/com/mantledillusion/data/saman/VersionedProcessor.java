@@ -0,0 +1,153 @@
+package com.mantledillusion.data.saman;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+
+/**
+ * {@link Processor} that is only responsible for its source/target type pair
+ * while a specific schema version is active in the {@link ProcessingContext}.
+ * <p>
+ * Multiple {@link VersionedProcessor}s of different versions can be
+ * registered for the same pair of a {@link ProcessorRegistry}, as well as up to
+ * one regular {@link Processor} (or a set of {@link GuardedProcessor}s) that
+ * processes the pair while no version is active or there is no
+ * {@link VersionedProcessor} for the active version. The
+ * {@link ProcessorRegistry} compiles them into a single table per pair, so
+ * every hop finds the {@link Processor} of the active version with one lookup.
+ * <p>
+ * The active version is set by putting a {@link Version} into the
+ * {@link ProcessingContext}:
+ * 
+ * <pre>
+ * service.process(source, TargetType.class, ProcessingContext.of(VersionedProcessor.Version.of("2")));
+ * </pre>
+ *
+ * @param <SourceType>
+ *            The source type to process from
+ * @param <TargetType>
+ *            The target type to process to
+ */
+public final class VersionedProcessor<SourceType, TargetType> implements TypedProcessor<SourceType, TargetType> {
+
+	/**
+	 * A schema version, to be put into a {@link ProcessingContext} to activate
+	 * the {@link VersionedProcessor}s of that version.
+	 */
+	public static final class Version {
+
+		private final String version;
+
+		private Version(String version) {
+			this.version = version;
+		}
+
+		/**
+		 * Returns the version identifier.
+		 *
+		 * @return The identifier, never null
+		 */
+		public String getVersion() {
+			return this.version;
+		}
+
+		/**
+		 * Factory method.
+		 *
+		 * @param version
+		 *            The version identifier; might <b>not</b> be null.
+		 * @return A new {@link Version} instance, never null
+		 */
+		public static Version of(String version) {
+			if (version == null) {
+				throw new IllegalArgumentException("Cannot create a null version");
+			}
+			return new Version(version);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.version.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return this == obj || (obj instanceof Version && this.version.equals(((Version) obj).version));
+		}
+
+		@Override
+		public String toString() {
+			return this.version;
+		}
+	}
+
+	private final Class<SourceType> sourceType;
+	private final Class<TargetType> targetType;
+	private final String version;
+	private final Processor<SourceType, TargetType> processor;
+
+	private VersionedProcessor(Class<SourceType> sourceType, Class<TargetType> targetType, String version,
+			Processor<SourceType, TargetType> processor) {
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+		this.version = version;
+		this.processor = processor;
+	}
+
+	@Override
+	public Class<SourceType> getSourceType() {
+		return this.sourceType;
+	}
+
+	@Override
+	public Class<TargetType> getTargetType() {
+		return this.targetType;
+	}
+
+	/**
+	 * Returns the version this processor is responsible for.
+	 *
+	 * @return The version identifier, never null
+	 */
+	public String getVersion() {
+		return this.version;
+	}
+
+	Processor<SourceType, TargetType> getProcessor() {
+		return this.processor;
+	}
+
+	@Override
+	public TargetType process(SourceType source, ProcessingDelegate context) throws Exception {
+		return this.processor.process(source, context);
+	}
+
+	/**
+	 * Factory method.
+	 *
+	 * @param <SourceType>
+	 *            The source type to process from
+	 * @param <TargetType>
+	 *            The target type to process to
+	 * @param sourceType
+	 *            The source type to process from; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to process to; might <b>not</b> be null.
+	 * @param version
+	 *            The version identifier the {@link Processor} is responsible
+	 *            for; might <b>not</b> be null.
+	 * @param processor
+	 *            The {@link Processor} to use for the version; might <b>not</b>
+	 *            be null.
+	 * @return A new {@link VersionedProcessor} instance, never null
+	 */
+	public static <SourceType, TargetType> VersionedProcessor<SourceType, TargetType> of(Class<SourceType> sourceType,
+			Class<TargetType> targetType, String version, Processor<SourceType, TargetType> processor) {
+		if (sourceType == null || targetType == null) {
+			throw new IllegalArgumentException("Cannot version a processor of a null source or target type");
+		} else if (version == null) {
+			throw new IllegalArgumentException("Cannot version a processor with a null version");
+		} else if (processor == null) {
+			throw new IllegalArgumentException("Cannot version a null processor");
+		}
+		return new VersionedProcessor<>(sourceType, targetType, version, processor);
+	}
+}
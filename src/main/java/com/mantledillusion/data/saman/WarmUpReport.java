@@ -0,0 +1,229 @@
+package com.mantledillusion.data.saman;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.mantledillusion.data.saman.ProcessingService.Processor;
+
+/**
+ * The outcome of warming up a {@link ProcessorRegistry}, listing how long
+ * resolving the {@link Processor} of every warmed up source/target type pair
+ * took.
+ *
+ * @see ProcessorRegistry#warmUp(java.util.Collection)
+ */
+public final class WarmUpReport {
+
+	/**
+	 * The way a {@link Pair}'s {@link Processor} is resolved.
+	 */
+	public enum Resolution {
+
+		/**
+		 * Resolved using {@link ProcessorRegistry#identifyProcessor(Class, Class)}.
+		 */
+		PROCESSOR,
+
+		/**
+		 * Resolved using
+		 * {@link ProcessorRegistry#identifyNamedProcessor(Class, Class)}.
+		 */
+		NAMED,
+
+		/**
+		 * Resolved using
+		 * {@link ProcessorRegistry#identifyOrdinalProcessor(Class, Class)}.
+		 */
+		ORDINAL;
+	}
+
+	/**
+	 * A source/target type pair to warm up.
+	 */
+	public static final class Pair {
+
+		private final Class<?> sourceType;
+		private final Class<?> targetType;
+		private final Resolution resolution;
+
+		Pair(Class<?> sourceType, Class<?> targetType, Resolution resolution) {
+			if (sourceType == null || targetType == null) {
+				throw new IllegalArgumentException("Cannot create a warm up pair for a null source or target type");
+			}
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+			this.resolution = resolution;
+		}
+
+		public Class<?> getSourceType() {
+			return this.sourceType;
+		}
+
+		public Class<?> getTargetType() {
+			return this.targetType;
+		}
+
+		public Resolution getResolution() {
+			return this.resolution;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * (31 * this.sourceType.hashCode() + this.targetType.hashCode()) + this.resolution.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			} else if (!(obj instanceof Pair)) {
+				return false;
+			}
+			Pair other = (Pair) obj;
+			return this.sourceType == other.sourceType && this.targetType == other.targetType
+					&& this.resolution == other.resolution;
+		}
+
+		@Override
+		public String toString() {
+			return this.sourceType.getSimpleName() + " -> " + this.targetType.getSimpleName() + " ("
+					+ this.resolution + ")";
+		}
+
+		/**
+		 * Factory method.
+		 * <p>
+		 * Creates a new {@link Pair} resolved as {@link Resolution#PROCESSOR}.
+		 *
+		 * @param sourceType
+		 *            The source type to process; might <b>not</b> be null.
+		 * @param targetType
+		 *            The target type to process to; might <b>not</b> be null.
+		 * @return A new {@link Pair} instance, never null
+		 */
+		public static Pair of(Class<?> sourceType, Class<?> targetType) {
+			return new Pair(sourceType, targetType, Resolution.PROCESSOR);
+		}
+
+		/**
+		 * Factory method.
+		 * <p>
+		 * Creates a new {@link Pair} resolved as {@link Resolution#NAMED}.
+		 *
+		 * @param <SourceType>
+		 *            The source type to convert from
+		 * @param <TargetType>
+		 *            The target type to convert to
+		 * @param sourceType
+		 *            The source type to process; might <b>not</b> be null.
+		 * @param targetType
+		 *            The target type to process to; might <b>not</b> be null.
+		 * @return A new {@link Pair} instance, never null
+		 */
+		public static <SourceType extends Enum<SourceType>, TargetType extends Enum<TargetType>> Pair ofNamed(
+				Class<SourceType> sourceType, Class<TargetType> targetType) {
+			return new Pair(sourceType, targetType, Resolution.NAMED);
+		}
+
+		/**
+		 * Factory method.
+		 * <p>
+		 * Creates a new {@link Pair} resolved as {@link Resolution#ORDINAL}.
+		 *
+		 * @param <SourceType>
+		 *            The source type to convert from
+		 * @param <TargetType>
+		 *            The target type to convert to
+		 * @param sourceType
+		 *            The source type to process; might <b>not</b> be null.
+		 * @param targetType
+		 *            The target type to process to; might <b>not</b> be null.
+		 * @return A new {@link Pair} instance, never null
+		 */
+		public static <SourceType extends Enum<SourceType>, TargetType extends Enum<TargetType>> Pair ofOrdinal(
+				Class<SourceType> sourceType, Class<TargetType> targetType) {
+			return new Pair(sourceType, targetType, Resolution.ORDINAL);
+		}
+	}
+
+	/**
+	 * The outcome of warming up a single {@link Pair}.
+	 */
+	public static final class Entry {
+
+		private final Pair pair;
+		private final long duration;
+		private final RuntimeException failure;
+
+		Entry(Pair pair, long duration, RuntimeException failure) {
+			this.pair = pair;
+			this.duration = duration;
+			this.failure = failure;
+		}
+
+		public Pair getPair() {
+			return this.pair;
+		}
+
+		/**
+		 * Returns how long resolving the {@link Pair}'s {@link Processor} took.
+		 *
+		 * @param unit
+		 *            The unit to return the duration in; might <b>not</b> be null.
+		 * @return The duration, &gt;= 0
+		 */
+		public long getDuration(TimeUnit unit) {
+			return unit.convert(this.duration, TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * Returns the exception resolving the {@link Pair}'s {@link Processor}
+		 * failed with.
+		 *
+		 * @return The failure, null if the resolution succeeded
+		 */
+		public RuntimeException getFailure() {
+			return this.failure;
+		}
+	}
+
+	private final List<Entry> entries;
+	private final long duration;
+
+	WarmUpReport(List<Entry> entries, long duration) {
+		this.entries = Collections.unmodifiableList(entries);
+		this.duration = duration;
+	}
+
+	/**
+	 * Returns the entries of all warmed up {@link Pair}s in the order they have
+	 * been warmed up in.
+	 *
+	 * @return The entries, never null
+	 */
+	public List<Entry> getEntries() {
+		return this.entries;
+	}
+
+	/**
+	 * Returns how long the whole warm up took.
+	 *
+	 * @param unit
+	 *            The unit to return the duration in; might <b>not</b> be null.
+	 * @return The duration, &gt;= 0
+	 */
+	public long getDuration(TimeUnit unit) {
+		return unit.convert(this.duration, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns whether the {@link Processor}s of all {@link Pair}s have been
+	 * resolved successfully.
+	 *
+	 * @return True if there is no {@link Entry} with a failure, false otherwise
+	 */
+	public boolean isSuccessful() {
+		return this.entries.stream().allMatch(entry -> entry.failure == null);
+	}
+}
@@ -1,16 +1,126 @@
 package com.mantledillusion.data.saman.exception;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import javax.annotation.processing.Processor;
 
 /**
  * {@link Exception} that is used to wrap any type of {@link Exception} that is
  * thrown by a {@link Processor} during processing.
+ * <p>
+ * An {@link Exception} is only wrapped once, at the hop it is thrown at; every
+ * hop it is passed through afterwards is recorded by the wrapping
+ * {@link ProcessorException}, see {@link #getHops()}.
  */
 public class ProcessorException extends RuntimeException {
 
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * A single hop of a processing, from a source to a target type.
+	 */
+	public static final class Hop {
+
+		private final Class<?> sourceType;
+		private final Class<?> targetType;
+
+		private Hop(Class<?> sourceType, Class<?> targetType) {
+			this.sourceType = sourceType;
+			this.targetType = targetType;
+		}
+
+		/**
+		 * Returns the source type processed from.
+		 * 
+		 * @return The source type, never null
+		 */
+		public Class<?> getSourceType() {
+			return sourceType;
+		}
+
+		/**
+		 * Returns the target type processed to.
+		 * 
+		 * @return The target type, never null
+		 */
+		public Class<?> getTargetType() {
+			return targetType;
+		}
+
+		@Override
+		public String toString() {
+			return this.sourceType.getSimpleName() + "->" + this.targetType.getSimpleName();
+		}
+	}
+
+	// ALTERNATING SOURCE/TARGET TYPES, FROM THE FAILING HOP OUTWARDS
+	private Class<?>[] hops = new Class<?>[0];
+	private int hopCount;
+
 	public ProcessorException(Exception ex) {
 		super(ex);
 	}
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param ex
+	 *            The {@link Exception} to wrap; might be null.
+	 * @param writableStackTrace
+	 *            Whether to capture the stack trace of where this
+	 *            {@link ProcessorException} is created.
+	 */
+	public ProcessorException(Exception ex, boolean writableStackTrace) {
+		super(ex == null ? null : ex.toString(), ex, true, writableStackTrace);
+	}
+
+	/**
+	 * Records a hop the wrapped {@link Exception} has been passed through.
+	 * <p>
+	 * Hops are added from the hop the {@link Exception} has been thrown at
+	 * outwards.
+	 * 
+	 * @param sourceType
+	 *            The source type of the hop; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type of the hop; might <b>not</b> be null.
+	 */
+	public void addHop(Class<?> sourceType, Class<?> targetType) {
+		if (this.hopCount * 2 == this.hops.length) {
+			this.hops = Arrays.copyOf(this.hops, Math.max(8, this.hops.length * 2));
+		}
+		this.hops[this.hopCount * 2] = sourceType;
+		this.hops[this.hopCount * 2 + 1] = targetType;
+		this.hopCount++;
+	}
+
+	/**
+	 * Returns the hops the failing processing took, from the root hop to the one
+	 * the wrapped {@link Exception} has been thrown at.
+	 * 
+	 * @return The hops, never null, might be empty
+	 */
+	public List<Hop> getHops() {
+		List<Hop> hops = new ArrayList<>(this.hopCount);
+		for (int i = this.hopCount - 1; i >= 0; i--) {
+			hops.add(new Hop(this.hops[i * 2], this.hops[i * 2 + 1]));
+		}
+		return Collections.unmodifiableList(hops);
+	}
+
+	@Override
+	public String getMessage() {
+		String message = super.getMessage();
+		if (this.hopCount == 0) {
+			return message;
+		}
+		StringBuilder path = new StringBuilder();
+		for (Hop hop : getHops()) {
+			path.append(path.length() == 0 ? "" : " > ").append(hop);
+		}
+		return message + " [at " + path + "]";
+	}
 }
@@ -0,0 +1,233 @@
+package com.mantledillusion.data.saman.index;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Compile time annotation processor generating a
+ * {@link com.mantledillusion.data.saman.ProcessorIndex} of all
+ * {@link com.mantledillusion.data.saman.ProcessingService.Processor}
+ * implementations of the compiled sources, such as
+ * {@link com.mantledillusion.data.saman.interfaces.Converter}s,
+ * {@link com.mantledillusion.data.saman.interfaces.BiConverter}s,
+ * {@link com.mantledillusion.data.saman.interfaces.Synchronizer}s,
+ * {@link com.mantledillusion.data.saman.interfaces.BiSynchronizer}s and
+ * {@link com.mantledillusion.data.saman.interfaces.Persistor}s.
+ * <p>
+ * The processor is not registered for automatic discovery; it has to be
+ * enabled explicitly, for example using javac's <code>-processor</code> option.
+ * <p>
+ * Indexed are all public, non-abstract top level or static nested classes
+ * with a public no-argument constructor whose generic source/target types are
+ * fully defined. The index is generated into the class given by the
+ * <code>saman.index</code> option, by default
+ * <code>SamanProcessorIndex</code> in the package of the alphabetically first
+ * indexed class. It is also registered as a {@link java.util.ServiceLoader}
+ * service of {@link com.mantledillusion.data.saman.ProcessorIndex}.
+ * <p>
+ * The index is generated in the first processing round that finds indexable
+ * classes, so the generated source is compiled just like any other source;
+ * classes generated by other annotation processors in later rounds cannot be
+ * added to it anymore and are reported by a warning.
+ */
+@SupportedAnnotationTypes("*")
+@SupportedOptions(ProcessorIndexProcessor.OPTION_INDEX)
+public class ProcessorIndexProcessor extends AbstractProcessor {
+
+	/**
+	 * The option to set the fully qualified name of the generated index class.
+	 */
+	public static final String OPTION_INDEX = "saman.index";
+
+	private static final String DEFAULT_INDEX_NAME = "SamanProcessorIndex";
+	private static final String INDEX_TYPE = "com.mantledillusion.data.saman.ProcessorIndex";
+	private static final String PROCESSOR_TYPE = "com.mantledillusion.data.saman.ProcessingService.Processor";
+	private static final String BI_PROCESSOR_TYPE = "com.mantledillusion.data.saman.ProcessingService.BiProcessor";
+
+	private final Map<String, String> entries = new TreeMap<>();
+	private boolean written = false;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (!roundEnv.processingOver()) {
+			TypeElement processorType = this.processingEnv.getElementUtils().getTypeElement(PROCESSOR_TYPE);
+			if (processorType != null) {
+				for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+					index(type, processorType);
+				}
+			}
+
+			// SOURCES CREATED IN THE LAST ROUND ARE NOT PROCESSED ANYMORE, SO THE INDEX HAS TO BE WRITTEN BEFOREHAND
+			if (!this.written && !this.entries.isEmpty()) {
+				writeIndex();
+				this.written = true;
+			}
+		}
+		return false;
+	}
+
+	private void index(TypeElement type, TypeElement processorType) {
+		for (TypeElement nestedType : ElementFilter.typesIn(type.getEnclosedElements())) {
+			index(nestedType, processorType);
+		}
+
+		if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+			return;
+		}
+
+		DeclaredType processorSuperType = findSuperType(type.asType(), processorType);
+		if (processorSuperType == null) {
+			return;
+		}
+
+		List<? extends TypeMirror> typeArguments = processorSuperType.getTypeArguments();
+		if (typeArguments.size() != 2 || !isConcrete(typeArguments.get(0)) || !isConcrete(typeArguments.get(1))) {
+			warn(type, "the generic source/target type parameters are not fully defined to concrete types");
+		} else if (!isInstantiable(type)) {
+			warn(type, "it has to be public, top level or static and have a public no-argument constructor");
+		} else if (this.written) {
+			warn(type, "the index has already been generated in an earlier processing round");
+		} else {
+			TypeElement biProcessorType = this.processingEnv.getElementUtils().getTypeElement(BI_PROCESSOR_TYPE);
+			boolean bidirectional = findSuperType(type.asType(), biProcessorType) != null;
+			String typeName = type.getQualifiedName().toString();
+			this.entries.put(typeName, "new " + INDEX_TYPE + ".Entry(" + toClassLiteral(typeArguments.get(0)) + ", "
+					+ toClassLiteral(typeArguments.get(1)) + ", " + bidirectional + ", " + typeName + "::new)");
+		}
+	}
+
+	private DeclaredType findSuperType(TypeMirror type, TypeElement superType) {
+		for (TypeMirror directSuperType : this.processingEnv.getTypeUtils().directSupertypes(type)) {
+			if (directSuperType.getKind() == TypeKind.DECLARED) {
+				DeclaredType declaredSuperType = (DeclaredType) directSuperType;
+				if (declaredSuperType.asElement().equals(superType)) {
+					return declaredSuperType;
+				}
+				DeclaredType found = findSuperType(declaredSuperType, superType);
+				if (found != null) {
+					return found;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static boolean isConcrete(TypeMirror type) {
+		return type.getKind() == TypeKind.DECLARED || type.getKind() == TypeKind.ARRAY;
+	}
+
+	private static boolean isInstantiable(TypeElement type) {
+		if (!isAccessible(type)) {
+			return false;
+		}
+		for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+			if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isAccessible(TypeElement type) {
+		if (!type.getModifiers().contains(Modifier.PUBLIC)) {
+			return false;
+		} else if (type.getNestingKind() == NestingKind.TOP_LEVEL) {
+			return true;
+		} else if (type.getNestingKind() == NestingKind.MEMBER) {
+			TypeElement enclosingType = (TypeElement) type.getEnclosingElement();
+			return (type.getModifiers().contains(Modifier.STATIC) || enclosingType.getKind().isInterface())
+					&& isAccessible(enclosingType);
+		}
+		return false;
+	}
+
+	private String toClassLiteral(TypeMirror type) {
+		return this.processingEnv.getTypeUtils().erasure(type).toString() + ".class";
+	}
+
+	private void warn(Element type, String reason) {
+		this.processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+				"The processor '" + type.getSimpleName() + "' cannot be indexed; " + reason + ".", type);
+	}
+
+	private void writeIndex() {
+		String indexName = this.processingEnv.getOptions().get(OPTION_INDEX);
+		if (indexName == null) {
+			String firstTypeName = this.entries.keySet().iterator().next();
+			TypeElement firstType = this.processingEnv.getElementUtils().getTypeElement(firstTypeName);
+			String packageName = this.processingEnv.getElementUtils().getPackageOf(firstType).getQualifiedName()
+					.toString();
+			indexName = packageName.isEmpty() ? DEFAULT_INDEX_NAME : packageName + '.' + DEFAULT_INDEX_NAME;
+		}
+		int packageEnd = indexName.lastIndexOf('.');
+
+		try (Writer writer = this.processingEnv.getFiler().createSourceFile(indexName).openWriter();
+				PrintWriter out = new PrintWriter(writer)) {
+			if (packageEnd > 0) {
+				out.println("package " + indexName.substring(0, packageEnd) + ";");
+				out.println();
+			}
+			out.println("/**");
+			out.println(" * Generated by " + ProcessorIndexProcessor.class.getName() + ".");
+			out.println(" */");
+			out.println("public final class " + indexName.substring(packageEnd + 1) + " implements " + INDEX_TYPE + " {");
+			out.println();
+			out.println("\tprivate static final java.util.List<" + INDEX_TYPE + ".Entry> ENTRIES = java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+			int count = 0;
+			for (String entry : this.entries.values()) {
+				out.println("\t\t\t" + entry + (++count < this.entries.size() ? "," : ""));
+			}
+			out.println("\t));");
+			out.println();
+			out.println("\t@Override");
+			out.println("\tpublic java.util.List<" + INDEX_TYPE + ".Entry> getEntries() {");
+			out.println("\t\treturn ENTRIES;");
+			out.println("\t}");
+			out.println("}");
+		} catch (IOException e) {
+			this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Unable to write the processor index '" + indexName + "': " + e.getMessage());
+			return;
+		}
+
+		try {
+			FileObject services = this.processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					"META-INF/services/" + INDEX_TYPE);
+			try (Writer writer = services.openWriter()) {
+				writer.write(indexName + System.lineSeparator());
+			}
+		} catch (IOException e) {
+			this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Unable to register the processor index '" + indexName + "' as service: " + e.getMessage());
+		}
+	}
+}
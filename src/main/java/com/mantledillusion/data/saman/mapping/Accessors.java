@@ -0,0 +1,249 @@
+package com.mantledillusion.data.saman.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import com.mantledillusion.data.saman.PairCache;
+import com.mantledillusion.data.saman.ProcessingDelegate;
+import com.mantledillusion.data.saman.exception.ProcessingException;
+
+/**
+ * Discovers the properties of types and compiles them into
+ * {@link MethodHandle}s for the converters of this package.
+ */
+final class Accessors {
+
+	static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final PairCache<Map<Class<?>, Reference<?>>> MAPPINGS = new PairCache<>();
+
+	private static final MethodHandle PROCESS;
+	private static final Method IS_RECORD;
+	private static final Method GET_RECORD_COMPONENTS;
+	private static final Method GET_RECORD_COMPONENT_NAME;
+	private static final Method GET_RECORD_COMPONENT_ACCESSOR;
+
+	static {
+		try {
+			PROCESS = LOOKUP.findStatic(Accessors.class, "process",
+					MethodType.methodType(Object.class, Class.class, Object.class, ProcessingDelegate.class));
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			throw new ExceptionInInitializerError(e);
+		}
+
+		// RECORDS ONLY EXIST ON JAVA 16+, SO THEIR REFLECTION API IS LOOKED UP REFLECTIVELY
+		Method isRecord = null, getRecordComponents = null, getName = null, getAccessor = null;
+		try {
+			isRecord = Class.class.getMethod("isRecord");
+			getRecordComponents = Class.class.getMethod("getRecordComponents");
+			Class<?> recordComponentType = getRecordComponents.getReturnType().getComponentType();
+			getName = recordComponentType.getMethod("getName");
+			getAccessor = recordComponentType.getMethod("getAccessor");
+		} catch (NoSuchMethodException e) {
+			isRecord = null;
+		}
+		IS_RECORD = isRecord;
+		GET_RECORD_COMPONENTS = getRecordComponents;
+		GET_RECORD_COMPONENT_NAME = getName;
+		GET_RECORD_COMPONENT_ACCESSOR = getAccessor;
+	}
+
+	private Accessors() {
+	}
+
+	// ############################################################################################################
+	// ################################################# MAPPINGS #################################################
+	// ############################################################################################################
+
+	/**
+	 * Returns the mapping of the given converter type for the given
+	 * source/target type pair, compiling it if there is none yet.
+	 * <p>
+	 * The mappings of all converter types share one cache that references the
+	 * pair's {@link Class}es weakly; as the compiled mappings reference both
+	 * {@link Class}es themselves, they are only referenced weakly as well and are
+	 * kept alive by the converters using them. Hence, caching a mapping neither
+	 * prevents the pair's {@link ClassLoader}s from being collected nor does it
+	 * compile a pair more than once while any converter for the pair is in use.
+	 */
+	@SuppressWarnings("unchecked")
+	static <M> M mapping(Class<?> converterType, Class<?> sourceType, Class<?> targetType,
+			BiFunction<Class<?>, Class<?>, M> compiler) {
+		if (sourceType == null || targetType == null) {
+			throw new IllegalArgumentException("Cannot create a " + converterType.getSimpleName()
+					+ " for a null source or target type");
+		}
+
+		Map<Class<?>, Reference<?>> mappings = MAPPINGS.computeIfAbsent(sourceType, targetType,
+				(s, t) -> new ConcurrentHashMap<>());
+		Reference<?> reference = mappings.get(converterType);
+		Object mapping = reference == null ? null : reference.get();
+		if (mapping == null) {
+			synchronized (mappings) {
+				reference = mappings.get(converterType);
+				mapping = reference == null ? null : reference.get();
+				if (mapping == null) {
+					mapping = compiler.apply(sourceType, targetType);
+					mappings.put(converterType, new WeakReference<>(mapping));
+				}
+			}
+		}
+		return (M) mapping;
+	}
+
+	/**
+	 * Returns the exception to throw for the given {@link Throwable} thrown by a
+	 * compiled mapping; {@link Exception}s are returned as they are,
+	 * {@link Error}s are rethrown and any other {@link Throwable} is wrapped into
+	 * a {@link ProcessingException}.
+	 */
+	static Exception rethrow(Throwable t, Class<?> sourceType, Class<?> targetType) {
+		if (t instanceof Error) {
+			throw (Error) t;
+		} else if (t instanceof Exception) {
+			return (Exception) t;
+		}
+		return new ProcessingException("Mapping '" + sourceType.getSimpleName() + "' to '"
+				+ targetType.getSimpleName() + "' failed.", t);
+	}
+
+	// ############################################################################################################
+	// ################################################ PROPERTIES ################################################
+	// ############################################################################################################
+
+	static boolean isRecord(Class<?> type) {
+		try {
+			return IS_RECORD != null && (Boolean) IS_RECORD.invoke(type);
+		} catch (ReflectiveOperationException e) {
+			return false;
+		}
+	}
+
+	static Map<String, Method> getRecordAccessors(Class<?> type) {
+		Map<String, Method> accessors = new LinkedHashMap<>();
+		if (isRecord(type)) {
+			try {
+				for (Object component : (Object[]) GET_RECORD_COMPONENTS.invoke(type)) {
+					accessors.put((String) GET_RECORD_COMPONENT_NAME.invoke(component),
+							(Method) GET_RECORD_COMPONENT_ACCESSOR.invoke(component));
+				}
+			} catch (ReflectiveOperationException e) {
+				throw new ProcessingException("Cannot read the components of the record '" + type.getSimpleName()
+						+ "'.", e);
+			}
+		}
+		return accessors;
+	}
+
+	static Map<String, Method> getGetters(Class<?> type) {
+		Map<String, Method> getters = getRecordAccessors(type);
+		for (Method method : getMethods(type)) {
+			if (method.getParameterCount() == 0 && method.getReturnType() != void.class
+					&& method.getDeclaringClass() != Object.class) {
+				if (isProperty(method.getName(), "get")) {
+					getters.putIfAbsent(toProperty(method.getName(), "get"), method);
+				} else if (isProperty(method.getName(), "is") && method.getReturnType() == boolean.class) {
+					getters.putIfAbsent(toProperty(method.getName(), "is"), method);
+				}
+			}
+		}
+		return getters;
+	}
+
+	static Map<String, Method> getSetters(Class<?> type) {
+		Map<String, Method> setters = new LinkedHashMap<>();
+		for (Method method : getMethods(type)) {
+			if (method.getParameterCount() == 1 && isProperty(method.getName(), "set")) {
+				setters.putIfAbsent(toProperty(method.getName(), "set"), method);
+			}
+		}
+		return setters;
+	}
+
+	static List<Method> getMethods(Class<?> type) {
+		List<Method> methods = new ArrayList<>();
+		for (Method method : type.getMethods()) {
+			if (!Modifier.isStatic(method.getModifiers()) && !method.isBridge() && !method.isSynthetic()) {
+				methods.add(method);
+			}
+		}
+		// ORDER BY NAME, SO OVERLOADED ACCESSORS ARE CHOSEN THE SAME WAY ON EVERY JVM
+		methods.sort(Comparator.comparing(Method::getName)
+				.thenComparing(method -> method.getParameterCount() == 0 ? ""
+						: method.getParameterTypes()[0].getName()));
+		return methods;
+	}
+
+	static boolean isProperty(String methodName, String prefix) {
+		return methodName.length() > prefix.length() && methodName.startsWith(prefix)
+				&& Character.isUpperCase(methodName.charAt(prefix.length()));
+	}
+
+	static String toProperty(String methodName, String prefix) {
+		return Character.toLowerCase(methodName.charAt(prefix.length())) + methodName.substring(prefix.length() + 1);
+	}
+
+	// ############################################################################################################
+	// ################################################# HANDLES ##################################################
+	// ############################################################################################################
+
+	static MethodHandle unreflect(Method method) {
+		try {
+			method.setAccessible(true);
+			return LOOKUP.unreflect(method);
+		} catch (IllegalAccessException | RuntimeException e) {
+			throw new ProcessingException("Cannot access the property method '" + method.getName() + "' of the type '"
+					+ method.getDeclaringClass().getSimpleName() + "'.", e);
+		}
+	}
+
+	static boolean isAssignable(Method getter, Class<?> propertyType) {
+		return ClassUtils.isAssignable(getter.getReturnType(), propertyType, true);
+	}
+
+	/**
+	 * Compiles a handle that extracts the value for a property of the given type
+	 * from a source object.
+	 * <p>
+	 * The returned handle is of the type (Object source, ProcessingDelegate
+	 * context)propertyType; if the getter is null, it returns the property
+	 * type's default value; if the getter's type is not assignable to the
+	 * property type, the value is processed into it using the context.
+	 */
+	static MethodHandle argument(Method getter, Class<?> propertyType) {
+		MethodHandle argument;
+		if (getter == null) {
+			argument = MethodHandles.constant(propertyType, propertyType.isPrimitive()
+					? Array.get(Array.newInstance(propertyType, 1), 0) : null);
+			argument = MethodHandles.dropArguments(argument, 0, Object.class, ProcessingDelegate.class);
+		} else if (isAssignable(getter, propertyType)) {
+			argument = unreflect(getter).asType(MethodType.methodType(propertyType, Object.class));
+			argument = MethodHandles.dropArguments(argument, 1, ProcessingDelegate.class);
+		} else {
+			argument = MethodHandles.filterArguments(PROCESS.bindTo(ClassUtils.primitiveToWrapper(propertyType)), 0,
+					unreflect(getter).asType(MethodType.methodType(Object.class, Object.class)));
+			argument = argument.asType(MethodType.methodType(propertyType, Object.class, ProcessingDelegate.class));
+		}
+		return argument;
+	}
+
+	@SuppressWarnings("unused")
+	private static Object process(Class<?> targetType, Object value, ProcessingDelegate context) {
+		return context.process(value, targetType);
+	}
+}
@@ -0,0 +1,188 @@
+package com.mantledillusion.data.saman.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.mantledillusion.data.saman.ProcessingDelegate;
+import com.mantledillusion.data.saman.TypedProcessor;
+import com.mantledillusion.data.saman.exception.ProcessingException;
+import com.mantledillusion.data.saman.interfaces.Converter;
+
+/**
+ * {@link Converter} that maps the properties of a source type to an immutable
+ * target type using the target type's builder.
+ * <p>
+ * The builder is retrieved from a public static no-arg <code>builder()</code>
+ * method of the target type and has to provide a public no-arg
+ * <code>build()</code> method returning the target type. A builder property
+ * is a public method with a single parameter, either named like the property
+ * itself (<code>x(value)</code>) or prefixed with <code>with</code> or
+ * <code>set</code>; if it returns a builder, the returned builder is used
+ * further on, so immutable builders are supported as well. Every builder
+ * property is taken from the equally named source property like a
+ * {@link PropertyConverter} would; builder properties without an equally
+ * named source property are left untouched.
+ * <p>
+ * The accessors of a source/target type pair are compiled into
+ * {@link MethodHandle}s once and shared by all instances for that pair, so
+ * converting does not use reflection.
+ *
+ * @param <SourceType>
+ *            The source type to convert from
+ * @param <TargetType>
+ *            The target type to convert to
+ */
+public final class BuilderConverter<SourceType, TargetType>
+		implements Converter<SourceType, TargetType>, TypedProcessor<SourceType, TargetType> {
+
+	private static final class Mapping {
+
+		private final MethodHandle builder;
+		private final MethodHandle[] properties;
+		private final MethodHandle build;
+
+		private Mapping(MethodHandle builder, List<MethodHandle> properties, MethodHandle build) {
+			this.builder = builder;
+			this.properties = properties.toArray(new MethodHandle[properties.size()]);
+			this.build = build;
+		}
+	}
+
+	private static final String[] PREFIXES = { "with", "set" };
+
+	private final Class<SourceType> sourceType;
+	private final Class<TargetType> targetType;
+	private final Mapping mapping;
+
+	private BuilderConverter(Class<SourceType> sourceType, Class<TargetType> targetType, Mapping mapping) {
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+		this.mapping = mapping;
+	}
+
+	@Override
+	public Class<SourceType> getSourceType() {
+		return this.sourceType;
+	}
+
+	@Override
+	public Class<TargetType> getTargetType() {
+		return this.targetType;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public TargetType toTarget(SourceType source, ProcessingDelegate context) throws Exception {
+		if (source == null) {
+			return null;
+		}
+
+		try {
+			Object builder = this.mapping.builder.invokeExact();
+			for (MethodHandle property : this.mapping.properties) {
+				builder = property.invokeExact(builder, (Object) source, context);
+			}
+			return (TargetType) (Object) this.mapping.build.invokeExact(builder);
+		} catch (Throwable t) {
+			throw Accessors.rethrow(t, this.sourceType, this.targetType);
+		}
+	}
+
+	private static Mapping compile(Class<?> sourceType, Class<?> targetType) {
+		Method builderMethod;
+		Method buildMethod;
+		try {
+			builderMethod = targetType.getMethod("builder");
+			buildMethod = builderMethod.getReturnType().getMethod("build");
+		} catch (NoSuchMethodException e) {
+			throw new ProcessingException("Cannot map to the type '" + targetType.getSimpleName()
+					+ "'; it has no public static builder() method returning a builder with a public build() method.",
+					e);
+		}
+		if (!Modifier.isStatic(builderMethod.getModifiers())
+				|| !targetType.isAssignableFrom(buildMethod.getReturnType())) {
+			throw new ProcessingException("Cannot map to the type '" + targetType.getSimpleName()
+					+ "'; its builder() method has to be static and its builder's build() method has to return it.");
+		}
+		Class<?> builderType = builderMethod.getReturnType();
+
+		Map<String, Method> builderProperties = new LinkedHashMap<>();
+		for (Method method : Accessors.getMethods(builderType)) {
+			if (method.getParameterCount() == 1 && method.getDeclaringClass() != Object.class) {
+				builderProperties.putIfAbsent(toProperty(method.getName()), method);
+			}
+		}
+
+		Map<String, Method> getters = Accessors.getGetters(sourceType);
+		List<MethodHandle> properties = new ArrayList<>();
+		for (Map.Entry<String, Method> propertyEntry : builderProperties.entrySet()) {
+			Method getter = getters.get(propertyEntry.getKey());
+			if (getter != null) {
+				Method setter = propertyEntry.getValue();
+				Class<?> propertyType = setter.getParameterTypes()[0];
+
+				// (BUILDER, SOURCE, CONTEXT) -> RESULT
+				MethodHandle property = MethodHandles.collectArguments(Accessors.unreflect(setter), 1,
+						Accessors.argument(getter, propertyType));
+				if (builderType.isAssignableFrom(setter.getReturnType())) {
+					property = property.asType(MethodType.methodType(Object.class, Object.class, Object.class,
+							ProcessingDelegate.class));
+				} else {
+					// THE SETTER IS NOT FLUENT, SO THE BUILDER ITSELF IS PASSED ON
+					property = MethodHandles.foldArguments(
+							MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, Object.class,
+									ProcessingDelegate.class),
+							property.asType(MethodType.methodType(void.class, Object.class, Object.class,
+									ProcessingDelegate.class)));
+				}
+				properties.add(property);
+			}
+		}
+
+		return new Mapping(Accessors.unreflect(builderMethod).asType(MethodType.methodType(Object.class)),
+				properties,
+				Accessors.unreflect(buildMethod).asType(MethodType.methodType(Object.class, Object.class)));
+	}
+
+	private static String toProperty(String methodName) {
+		for (String prefix : PREFIXES) {
+			if (Accessors.isProperty(methodName, prefix)) {
+				return Accessors.toProperty(methodName, prefix);
+			}
+		}
+		return methodName;
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link BuilderConverter} for the given source/target type
+	 * pair, compiling the pair's accessors if that has not been done for the
+	 * pair before.
+	 *
+	 * @param <SourceType>
+	 *            The source type to convert from
+	 * @param <TargetType>
+	 *            The target type to convert to
+	 * @param sourceType
+	 *            The source type to convert from; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to convert to; might <b>not</b> be null.
+	 * @return A new {@link BuilderConverter} instance, never null
+	 * @throws ProcessingException
+	 *             If the target type has no builder or one of the properties is
+	 *             not accessible.
+	 */
+	public static <SourceType, TargetType> BuilderConverter<SourceType, TargetType> of(Class<SourceType> sourceType,
+			Class<TargetType> targetType) {
+		return new BuilderConverter<>(sourceType, targetType,
+				Accessors.mapping(BuilderConverter.class, sourceType, targetType, BuilderConverter::compile));
+	}
+}
@@ -0,0 +1,179 @@
+package com.mantledillusion.data.saman.mapping;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+
+import com.mantledillusion.data.saman.ProcessingDelegate;
+import com.mantledillusion.data.saman.TypedProcessor;
+import com.mantledillusion.data.saman.exception.ProcessingException;
+import com.mantledillusion.data.saman.interfaces.Converter;
+
+/**
+ * {@link Converter} that maps the properties of a source type to the
+ * arguments of an immutable target type's constructor.
+ * <p>
+ * The constructor used is the canonical constructor of a record, a
+ * constructor annotated with {@link ConstructorProperties} or, if the target
+ * type has been compiled with parameter names, its public constructor with
+ * the most parameters. Every argument is taken from the equally named source
+ * property like a {@link PropertyConverter} would; arguments without an
+ * equally named source property receive their type's default value.
+ * <p>
+ * The extraction of all arguments and the constructor call of a source/target
+ * type pair are compiled into a single {@link MethodHandle} once and shared by
+ * all instances for that pair, so converting only allocates the target object
+ * and does not use reflection.
+ *
+ * @param <SourceType>
+ *            The source type to convert from
+ * @param <TargetType>
+ *            The target type to convert to
+ */
+public final class ConstructorConverter<SourceType, TargetType>
+		implements Converter<SourceType, TargetType>, TypedProcessor<SourceType, TargetType> {
+
+	private static final MethodType MAPPING_TYPE = MethodType.methodType(Object.class, Object.class,
+			ProcessingDelegate.class);
+
+	private final Class<SourceType> sourceType;
+	private final Class<TargetType> targetType;
+	private final MethodHandle mapping;
+
+	private ConstructorConverter(Class<SourceType> sourceType, Class<TargetType> targetType, MethodHandle mapping) {
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+		this.mapping = mapping;
+	}
+
+	@Override
+	public Class<SourceType> getSourceType() {
+		return this.sourceType;
+	}
+
+	@Override
+	public Class<TargetType> getTargetType() {
+		return this.targetType;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public TargetType toTarget(SourceType source, ProcessingDelegate context) throws Exception {
+		if (source == null) {
+			return null;
+		}
+
+		try {
+			return (TargetType) (Object) this.mapping.invokeExact((Object) source, context);
+		} catch (Throwable t) {
+			throw Accessors.rethrow(t, this.sourceType, this.targetType);
+		}
+	}
+
+	private static MethodHandle compile(Class<?> sourceType, Class<?> targetType) {
+		Constructor<?> constructor = null;
+		String[] names = null;
+		Map<String, Method> components = Accessors.getRecordAccessors(targetType);
+		if (!components.isEmpty()) {
+			Class<?>[] componentTypes = components.values().stream().map(Method::getReturnType)
+					.toArray(Class<?>[]::new);
+			try {
+				constructor = targetType.getDeclaredConstructor(componentTypes);
+				names = components.keySet().toArray(new String[components.size()]);
+			} catch (NoSuchMethodException e) {
+				throw new ProcessingException("Cannot map to the record '" + targetType.getSimpleName()
+						+ "'; it has no canonical constructor.", e);
+			}
+		} else {
+			for (Constructor<?> candidate : targetType.getDeclaredConstructors()) {
+				if (candidate.isAnnotationPresent(ConstructorProperties.class)) {
+					constructor = candidate;
+					names = candidate.getAnnotation(ConstructorProperties.class).value();
+					break;
+				}
+			}
+			if (constructor == null) {
+				for (Constructor<?> candidate : targetType.getConstructors()) {
+					Parameter[] parameters = candidate.getParameters();
+					if (parameters.length > 0 && parameters[0].isNamePresent() && (constructor == null
+							|| parameters.length > constructor.getParameterCount())) {
+						constructor = candidate;
+					}
+				}
+				if (constructor != null) {
+					Parameter[] parameters = constructor.getParameters();
+					names = new String[parameters.length];
+					for (int i = 0; i < parameters.length; i++) {
+						names[i] = parameters[i].getName();
+					}
+				}
+			}
+		}
+
+		if (constructor == null) {
+			throw new ProcessingException("Cannot map to the type '" + targetType.getSimpleName()
+					+ "'; it is neither a record, nor has a constructor annotated with @"
+					+ ConstructorProperties.class.getSimpleName() + " or a constructor with parameter names.");
+		} else if (names.length != constructor.getParameterCount()) {
+			throw new ProcessingException("The @" + ConstructorProperties.class.getSimpleName()
+					+ " annotation of the type '" + targetType.getSimpleName() + "' declares " + names.length
+					+ " names for " + constructor.getParameterCount() + " parameters.");
+		}
+
+		MethodHandle mapping;
+		try {
+			constructor.setAccessible(true);
+			mapping = Accessors.LOOKUP.unreflectConstructor(constructor);
+		} catch (IllegalAccessException | RuntimeException e) {
+			throw new ProcessingException("Cannot access the constructor of the type '" + targetType.getSimpleName()
+					+ "'.", e);
+		}
+
+		// REPLACE EVERY PARAMETER BY ITS (SOURCE, CONTEXT) EXTRACTION, STARTING AT THE LAST TO KEEP THE POSITIONS
+		Map<String, Method> getters = Accessors.getGetters(sourceType);
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		for (int i = parameterTypes.length - 1; i >= 0; i--) {
+			mapping = MethodHandles.collectArguments(mapping, i,
+					Accessors.argument(getters.get(names[i]), parameterTypes[i]));
+		}
+
+		// MERGE ALL (SOURCE, CONTEXT) PAIRS INTO ONE
+		int[] reorder = new int[parameterTypes.length * 2];
+		for (int i = 0; i < reorder.length; i++) {
+			reorder[i] = i % 2;
+		}
+		return MethodHandles.permuteArguments(mapping.asType(mapping.type().changeReturnType(Object.class)),
+				MAPPING_TYPE, reorder);
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link ConstructorConverter} for the given source/target
+	 * type pair, compiling the pair's mapping if that has not been done for the
+	 * pair before.
+	 *
+	 * @param <SourceType>
+	 *            The source type to convert from
+	 * @param <TargetType>
+	 *            The target type to convert to
+	 * @param sourceType
+	 *            The source type to convert from; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to convert to; might <b>not</b> be null.
+	 * @return A new {@link ConstructorConverter} instance, never null
+	 * @throws ProcessingException
+	 *             If the target type has no constructor that can be mapped to
+	 *             or one of the properties is not accessible.
+	 */
+	public static <SourceType, TargetType> ConstructorConverter<SourceType, TargetType> of(
+			Class<SourceType> sourceType, Class<TargetType> targetType) {
+		return new ConstructorConverter<>(sourceType, targetType,
+				Accessors.mapping(ConstructorConverter.class, sourceType, targetType, ConstructorConverter::compile));
+	}
+}
@@ -0,0 +1,169 @@
+package com.mantledillusion.data.saman.mapping;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.mantledillusion.data.saman.ProcessingDelegate;
+import com.mantledillusion.data.saman.TypedProcessor;
+import com.mantledillusion.data.saman.exception.ProcessingException;
+import com.mantledillusion.data.saman.interfaces.Converter;
+
+/**
+ * {@link Converter} that maps the properties of a source type to the equally
+ * named properties of a target type.
+ * <p>
+ * A source property is a public getter (<code>getX()</code> or
+ * <code>isX()</code>), a target property is a public setter
+ * (<code>setX(value)</code>); the target type needs a no-arg constructor. The
+ * value of a source property is copied to the target property directly if
+ * the target property's type is assignable from it (including boxing and
+ * primitive widening); otherwise, it is processed into the target property's
+ * type using the {@link ProcessingDelegate}, so nested types are mapped by
+ * whatever {@link Converter} is registered for them. Target properties without
+ * an equally named source property are left untouched.
+ * <p>
+ * The accessors of a source/target type pair are compiled into
+ * {@link MethodHandle}s once and shared by all instances for that pair, so
+ * converting does not use reflection.
+ *
+ * @param <SourceType>
+ *            The source type to convert from
+ * @param <TargetType>
+ *            The target type to convert to
+ */
+public final class PropertyConverter<SourceType, TargetType>
+		implements Converter<SourceType, TargetType>, TypedProcessor<SourceType, TargetType> {
+
+	private static final class Mapping {
+
+		private final MethodHandle constructor;
+		private final MethodHandle[] copiers;
+		private final MethodHandle[] getters;
+		private final MethodHandle[] setters;
+		private final Class<?>[] nestedTypes;
+
+		private Mapping(MethodHandle constructor, List<MethodHandle> copiers, List<MethodHandle> getters,
+				List<MethodHandle> setters, List<Class<?>> nestedTypes) {
+			this.constructor = constructor;
+			this.copiers = copiers.toArray(new MethodHandle[copiers.size()]);
+			this.getters = getters.toArray(new MethodHandle[getters.size()]);
+			this.setters = setters.toArray(new MethodHandle[setters.size()]);
+			this.nestedTypes = nestedTypes.toArray(new Class<?>[nestedTypes.size()]);
+		}
+	}
+
+	private static final MethodType COPIER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final Class<SourceType> sourceType;
+	private final Class<TargetType> targetType;
+	private final Mapping mapping;
+
+	private PropertyConverter(Class<SourceType> sourceType, Class<TargetType> targetType, Mapping mapping) {
+		this.sourceType = sourceType;
+		this.targetType = targetType;
+		this.mapping = mapping;
+	}
+
+	@Override
+	public Class<SourceType> getSourceType() {
+		return this.sourceType;
+	}
+
+	@Override
+	public Class<TargetType> getTargetType() {
+		return this.targetType;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public TargetType toTarget(SourceType source, ProcessingDelegate context) throws Exception {
+		if (source == null) {
+			return null;
+		}
+
+		try {
+			Object target = this.mapping.constructor.invokeExact();
+			for (MethodHandle copier : this.mapping.copiers) {
+				copier.invokeExact(target, (Object) source);
+			}
+			for (int i = 0; i < this.mapping.getters.length; i++) {
+				Object value = (Object) this.mapping.getters[i].invokeExact((Object) source);
+				this.mapping.setters[i].invokeExact(target, context.process(value, this.mapping.nestedTypes[i]));
+			}
+			return (TargetType) target;
+		} catch (Throwable t) {
+			throw Accessors.rethrow(t, this.sourceType, this.targetType);
+		}
+	}
+
+	private static Mapping compile(Class<?> sourceType, Class<?> targetType) {
+		MethodHandle constructor;
+		try {
+			Constructor<?> noArgConstructor = targetType.getDeclaredConstructor();
+			noArgConstructor.setAccessible(true);
+			constructor = Accessors.LOOKUP.unreflectConstructor(noArgConstructor)
+					.asType(MethodType.methodType(Object.class));
+		} catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+			throw new ProcessingException("Cannot map to the type '" + targetType.getSimpleName()
+					+ "'; it has no accessible no-arg constructor.", e);
+		}
+
+		Map<String, Method> getters = Accessors.getGetters(sourceType);
+		List<MethodHandle> copiers = new ArrayList<>();
+		List<MethodHandle> nestedGetters = new ArrayList<>();
+		List<MethodHandle> nestedSetters = new ArrayList<>();
+		List<Class<?>> nestedTypes = new ArrayList<>();
+		for (Map.Entry<String, Method> setterEntry : Accessors.getSetters(targetType).entrySet()) {
+			Method getter = getters.get(setterEntry.getKey());
+			if (getter != null) {
+				Method setter = setterEntry.getValue();
+				Class<?> propertyType = setter.getParameterTypes()[0];
+				MethodHandle getterHandle = Accessors.unreflect(getter);
+				MethodHandle setterHandle = Accessors.unreflect(setter);
+				if (Accessors.isAssignable(getter, propertyType)) {
+					copiers.add(MethodHandles.filterArguments(
+							setterHandle.asType(MethodType.methodType(void.class, Object.class, propertyType)), 1,
+							getterHandle.asType(MethodType.methodType(propertyType, Object.class))));
+				} else {
+					nestedGetters.add(getterHandle.asType(GETTER_TYPE));
+					nestedSetters.add(setterHandle.asType(COPIER_TYPE));
+					nestedTypes.add(propertyType);
+				}
+			}
+		}
+		return new Mapping(constructor, copiers, nestedGetters, nestedSetters, nestedTypes);
+	}
+
+	/**
+	 * Factory method.
+	 * <p>
+	 * Creates a new {@link PropertyConverter} for the given source/target type
+	 * pair, compiling the pair's accessors if that has not been done for the
+	 * pair before.
+	 *
+	 * @param <SourceType>
+	 *            The source type to convert from
+	 * @param <TargetType>
+	 *            The target type to convert to
+	 * @param sourceType
+	 *            The source type to convert from; might <b>not</b> be null.
+	 * @param targetType
+	 *            The target type to convert to; might <b>not</b> be null.
+	 * @return A new {@link PropertyConverter} instance, never null
+	 * @throws ProcessingException
+	 *             If the target type has no accessible no-arg constructor or one
+	 *             of the properties is not accessible.
+	 */
+	public static <SourceType, TargetType> PropertyConverter<SourceType, TargetType> of(Class<SourceType> sourceType,
+			Class<TargetType> targetType) {
+		return new PropertyConverter<>(sourceType, targetType,
+				Accessors.mapping(PropertyConverter.class, sourceType, targetType, PropertyConverter::compile));
+	}
+}
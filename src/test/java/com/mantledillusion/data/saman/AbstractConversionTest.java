@@ -33,4 +33,4 @@ public class AbstractConversionTest {
 			}
 		}));
 	}
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -1,5 +1,12 @@
 package com.mantledillusion.data.saman;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -21,6 +28,13 @@ public class EnumConversionTest {
 		B;
 	}
 	
+	private  enum TargetShuffledNameEnum {
+
+		C,
+		B,
+		A;
+	}
+	
 	private  enum TargetWrongNameEnum {
 
 		VALUE_A,
@@ -53,6 +67,12 @@ public class EnumConversionTest {
 		Assertions.assertSame(TargetNameEnum.A, this.service.processNamed(SourceEnum.A, TargetNameEnum.class)); // TO MAKE SURE CACHED CONVERTER IS USED
 	}
 	
+	@Test
+	public void testConversionByShuffledName() {
+		Assertions.assertSame(TargetShuffledNameEnum.A, this.service.processNamed(SourceEnum.A, TargetShuffledNameEnum.class));
+		Assertions.assertSame(TargetShuffledNameEnum.B, this.service.processNamed(SourceEnum.B, TargetShuffledNameEnum.class));
+	}
+	
 	@Test
 	public void testNullConversionByName() {
 		Assertions.assertNull(this.service.processNamed(null, TargetNameEnum.class));
@@ -88,4 +108,25 @@ public class EnumConversionTest {
 	public void testConversionByWrongOrdinal() {
 		Assertions.assertThrows(ProcessingException.class, () -> this.service.processOrdinal(SourceEnum.B, TargetWrongOrdinalEnum.class));
 	}
+
+	@Test
+	public void testConcurrentProcessorCreation() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Callable<Object[]>> tasks = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				tasks.add(() -> new Object[] {
+						registry.identifyNamedProcessor(SourceEnum.class, TargetNameEnum.class),
+						registry.identifyOrdinalProcessor(SourceEnum.class, TargetOrdinalEnum.class) });
+			}
+			List<Future<Object[]>> results = executor.invokeAll(tasks);
+			Object[] expected = results.get(0).get();
+			for (Future<Object[]> result : results) {
+				Assertions.assertArrayEquals(expected, result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
 }
@@ -0,0 +1,90 @@
+package com.mantledillusion.data.saman;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mantledillusion.data.saman.exception.AmbiguousProcessorException;
+import com.mantledillusion.data.saman.exception.NoProcessorException;
+import com.mantledillusion.data.saman.interfaces.Converter;
+import com.mantledillusion.data.saman.obj.SourcePojo;
+import com.mantledillusion.data.saman.obj.TargetPojo;
+
+public class MutableProcessorRegistryTest {
+
+	private static final String ID_OLD = "old";
+	private static final String ID_NEW = "new";
+
+	private static class OldConverter implements Converter<SourcePojo, TargetPojo> {
+
+		@Override
+		public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+			return new TargetPojo(ID_OLD);
+		}
+	}
+
+	private static class NewConverter implements Converter<SourcePojo, TargetPojo> {
+
+		@Override
+		public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+			return new TargetPojo(ID_NEW);
+		}
+	}
+
+	private MutableProcessorRegistry registry;
+	private ProcessingService service;
+
+	@BeforeEach
+	public void before() {
+		this.registry = MutableProcessorRegistry.of();
+		this.service = new DefaultProcessingService(this.registry);
+	}
+
+	@Test
+	public void testAddAndRemove() {
+		Assertions.assertThrows(NoProcessorException.class, () -> this.service.process(new SourcePojo(null), TargetPojo.class));
+
+		OldConverter converter = new OldConverter();
+		this.registry.add(converter);
+		Assertions.assertEquals(ID_OLD, this.service.process(new SourcePojo(null), TargetPojo.class).id);
+
+		Assertions.assertTrue(this.registry.remove(converter));
+		Assertions.assertFalse(this.registry.remove(converter));
+		Assertions.assertThrows(NoProcessorException.class, () -> this.service.process(new SourcePojo(null), TargetPojo.class));
+	}
+
+	@Test
+	public void testAmbiguousAdd() {
+		this.registry.add(new OldConverter());
+		Assertions.assertThrows(AmbiguousProcessorException.class, () -> this.registry.add(new NewConverter()));
+		Assertions.assertEquals(1, this.registry.getProcessors().size());
+		Assertions.assertEquals(ID_OLD, this.service.process(new SourcePojo(null), TargetPojo.class).id);
+	}
+
+	@Test
+	public void testReplace() {
+		this.registry.add(new OldConverter());
+		this.registry.replace(new NewConverter());
+		Assertions.assertEquals(1, this.registry.getProcessors().size());
+		Assertions.assertEquals(ID_NEW, this.service.process(new SourcePojo(null), TargetPojo.class).id);
+
+		Assertions.assertTrue(this.registry.remove(SourcePojo.class, TargetPojo.class));
+		Assertions.assertTrue(this.registry.getProcessors().isEmpty());
+	}
+
+	@Test
+	public void testConsistentViewDuringProcessing() {
+		this.registry.add(new OldConverter());
+		this.registry.add(new Converter<String, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(String source, ProcessingDelegate context) throws Exception {
+				registry.replace(new NewConverter());
+				return context.process(new SourcePojo(null), TargetPojo.class);
+			}
+		});
+
+		Assertions.assertEquals(ID_OLD, this.service.process("", TargetPojo.class).id);
+		Assertions.assertEquals(ID_NEW, this.service.process(new SourcePojo(null), TargetPojo.class).id);
+	}
+}
@@ -0,0 +1,51 @@
+package com.mantledillusion.data.saman;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PairTableTest {
+
+	@Test
+	public void testLookupAfterResize() {
+		List<Class<?>> types = new ArrayList<>();
+		Class<?> type = String.class;
+		for (int i = 0; i < 20; i++) {
+			types.add(type);
+			type = Array.newInstance(type, 0).getClass();
+		}
+
+		PairTable.Builder<String> builder = new PairTable.Builder<>();
+		for (Class<?> sourceType : types) {
+			for (Class<?> targetType : types) {
+				Assertions.assertNull(builder.putIfAbsent(sourceType, targetType, sourceType.getName() + targetType.getName()));
+			}
+		}
+		PairTable<String> table = builder.build();
+
+		Assertions.assertEquals(types.size() * types.size(), table.size());
+		for (Class<?> sourceType : types) {
+			for (Class<?> targetType : types) {
+				Assertions.assertEquals(sourceType.getName() + targetType.getName(), table.get(sourceType, targetType));
+			}
+		}
+		Assertions.assertNull(table.get(Integer.class, String.class));
+
+		List<String> visited = new ArrayList<>();
+		table.forEach((sourceType, targetType, value) -> visited.add(value));
+		Assertions.assertEquals(types.size() * types.size(), visited.size());
+		Assertions.assertEquals(types.get(0).getName() + types.get(0).getName(), visited.get(0));
+		Assertions.assertEquals(types.get(0).getName() + types.get(1).getName(), visited.get(1));
+	}
+
+	@Test
+	public void testDuplicatePair() {
+		PairTable.Builder<String> builder = new PairTable.Builder<>();
+		Assertions.assertNull(builder.putIfAbsent(String.class, Integer.class, "a"));
+		Assertions.assertEquals("a", builder.putIfAbsent(String.class, Integer.class, "b"));
+		Assertions.assertEquals("a", builder.build().get(String.class, Integer.class));
+	}
+}
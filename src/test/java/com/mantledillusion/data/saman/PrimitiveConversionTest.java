@@ -0,0 +1,121 @@
+package com.mantledillusion.data.saman;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.mantledillusion.data.saman.exception.ProcessingException;
+import com.mantledillusion.data.saman.obj.SourcePojo;
+import com.mantledillusion.data.saman.obj.TargetPojo;
+
+public class PrimitiveConversionTest {
+
+	private ProcessingService service;
+
+	@BeforeEach
+	public void before() {
+		this.service = new DefaultProcessingService(ProcessorRegistry.of(
+				(PrimitiveProcessors.IntToLong) (source, context) -> source * 2L,
+				(PrimitiveProcessors.DoubleToInt) (source, context) -> (int) Math.round(source),
+				new PrimitiveProcessors.FromInt<TargetPojo>() {
+
+					@Override
+					public TargetPojo processInt(int source, ProcessingDelegate context) throws Exception {
+						return new TargetPojo(String.valueOf(context.processToLong(source)));
+					}
+				}, new PrimitiveProcessors.ToDouble<SourcePojo>() {
+
+					@Override
+					public double processToDouble(SourcePojo source, ProcessingDelegate context) throws Exception {
+						return Double.parseDouble(source.id);
+					}
+				}, new PrimitiveProcessors.ToLong<TargetPojo>() {
+
+					@Override
+					public long processToLong(TargetPojo source, ProcessingDelegate context) throws Exception {
+						return source.id.length();
+					}
+				}));
+	}
+
+	@Test
+	public void testPrimitiveConversion() {
+		Assertions.assertEquals(42L, this.service.processToLong(21));
+		Assertions.assertEquals(3, this.service.processToInt(2.6));
+		Assertions.assertEquals(7, this.service.processToInt(7));
+		Assertions.assertEquals("42", this.service.processInt(21, TargetPojo.class).id);
+		Assertions.assertEquals(1.5, this.service.processStrictlyToDouble(SourcePojo.class, new SourcePojo("1.5")));
+		Assertions.assertEquals(3L, this.service.processStrictlyToLong(TargetPojo.class, new TargetPojo("abc")));
+	}
+
+	@Test
+	public void testSameTypeConversion() {
+		ProcessingService service = new DefaultProcessingService(ProcessorRegistry.of(
+				(PrimitiveProcessors.IntToInt) (source, context) -> source + 1,
+				(PrimitiveProcessors.DoubleToDouble) (source, context) -> source * 2));
+		Assertions.assertEquals(8, service.processToInt(7));
+		Assertions.assertEquals(8, service.processStrictlyToInt(Integer.class, 7));
+		Assertions.assertEquals(Integer.valueOf(8), service.processInt(7, Integer.class));
+		Assertions.assertEquals(3.0, service.processToDouble(1.5));
+		Assertions.assertEquals(7L, service.processToLong(7L));
+	}
+
+	@Test
+	public void testBoxedConversion() {
+		Assertions.assertEquals(Long.valueOf(42L), this.service.process(21, Long.class));
+		Assertions.assertEquals(Long.valueOf(42L), this.service.process(21, long.class));
+		Assertions.assertEquals(Double.valueOf(1.5), this.service.process(new SourcePojo("1.5"), Double.class));
+	}
+
+	@Test
+	public void testInterceptedPrimitiveConversion() {
+		MutableProcessorRegistry registry = MutableProcessorRegistry.of(new PrimitiveProcessors.IntToLong() {
+
+			@Override
+			public Long process(Integer source, ProcessingDelegate context) throws Exception {
+				throw new IllegalStateException("The boxing processing should not be used");
+			}
+
+			@Override
+			public long processIntToLong(int source, ProcessingDelegate context) throws Exception {
+				return source * 2L;
+			}
+		});
+		DefaultProcessingService service = new DefaultProcessingService(registry);
+		AtomicInteger interceptions = new AtomicInteger();
+		service.addInterceptor(new ProcessingInterceptor() {
+
+			@Override
+			public <S, T> ProcessingService.Processor<S, T> intercept(Class<S> sourceType, Class<T> targetType, ProcessingService.Processor<S, T> processor) {
+				interceptions.incrementAndGet();
+				return processor;
+			}
+		});
+
+		Assertions.assertEquals(42L, service.processToLong(21));
+		Assertions.assertEquals(42L, service.processToLong(21));
+		Assertions.assertEquals(1, interceptions.get());
+
+		ProcessorRegistry snapshot = registry.getRegistry();
+		registry.setComposeProcessors(true);
+		Assertions.assertEquals(42L, service.processToLong(21));
+		Assertions.assertEquals(2, interceptions.get());
+		Assertions.assertEquals(42L, service.processToLong(21, new ProcessingDelegate(service, snapshot, null, null)));
+		Assertions.assertEquals(2, interceptions.get());
+	}
+
+	@Test
+	public void testNullTarget() {
+		ProcessingService service = new DefaultProcessingService(ProcessorRegistry.of(
+				new ProcessingService.Processor<Integer, Long>() {
+
+					@Override
+					public Long process(Integer source, ProcessingDelegate context) throws Exception {
+						return null;
+					}
+				}));
+		Assertions.assertThrows(ProcessingException.class, () -> service.processToLong(1));
+	}
+}
@@ -24,4 +24,59 @@ public class ProcessingContextTest {
 		TargetPojo target = service.process(new SourcePojo(null), TargetPojo.class, ProcessingContext.of(ID));
 		Assertions.assertEquals(ID, target.id);
 	}
+
+	@Test
+	public void testDerivedContextIsolation() {
+		ProcessingContext base = ProcessingContext.of(ID);
+		for (int i = 0; i < 20; i++) {
+			base.set("key" + i, i);
+		}
+		base.remove("key3");
+
+		ProcessingContext derived = new ProcessingContext(base);
+		derived.set("key0", -1);
+		derived.remove("key1");
+		derived.set("derived", Boolean.TRUE);
+		base.set("base", Boolean.TRUE);
+		base.remove(String.class);
+
+		Assertions.assertEquals(0, (int) base.get("key0"));
+		Assertions.assertEquals(1, (int) base.get("key1"));
+		Assertions.assertFalse(base.has("key3"));
+		Assertions.assertFalse(base.has("derived"));
+		Assertions.assertFalse(base.has(String.class));
+
+		Assertions.assertEquals(-1, (int) derived.get("key0"));
+		Assertions.assertFalse(derived.has("key1"));
+		Assertions.assertFalse(derived.has("key3"));
+		Assertions.assertEquals(19, (int) derived.get("key19"));
+		Assertions.assertFalse(derived.has("base"));
+		Assertions.assertEquals(ID, derived.get(String.class));
+
+		derived.clear();
+		Assertions.assertFalse(derived.has("key0"));
+		Assertions.assertTrue(base.has("key0"));
+	}
+
+	@Test
+	public void testLargeContextOverwrite() {
+		ProcessingContext context = ProcessingContext.of();
+		for (int i = 0; i < 1000; i++) {
+			context.set("key" + i, i);
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			context.set("key" + i, -i);
+		}
+		for (int i = 0; i < 1000; i += 3) {
+			context.remove("key" + i);
+		}
+
+		for (int i = 0; i < 1000; i++) {
+			if (i % 3 == 0) {
+				Assertions.assertFalse(context.has("key" + i));
+			} else {
+				Assertions.assertEquals(i % 2 == 0 ? -i : i, (int) context.get("key" + i));
+			}
+		}
+	}
 }
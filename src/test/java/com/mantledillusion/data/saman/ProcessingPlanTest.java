@@ -0,0 +1,224 @@
+package com.mantledillusion.data.saman;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mantledillusion.data.saman.exception.NoProcessorException;
+import com.mantledillusion.data.saman.interfaces.Converter;
+import com.mantledillusion.data.saman.obj.SourcePojo;
+import com.mantledillusion.data.saman.obj.TargetPojo;
+
+public class ProcessingPlanTest {
+
+	private static class SubSourcePojo extends SourcePojo {
+
+		SubSourcePojo(String id) {
+			super(id);
+		}
+	}
+
+	private static class HoppingConverter implements Converter<TargetPojo, TargetPojo[]> {
+
+		@Override
+		public TargetPojo[] toTarget(TargetPojo source, ProcessingDelegate context) throws Exception {
+			return new TargetPojo[] { context.process(new SourcePojo(source.id), TargetPojo.class),
+					context.process(new SubSourcePojo(source.id), TargetPojo.class) };
+		}
+	}
+
+	private static class PojoConverter implements Converter<SourcePojo, TargetPojo> {
+
+		@Override
+		public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+			return new TargetPojo(source.id);
+		}
+	}
+
+	@Test
+	public void testHopRecording() {
+		DefaultProcessingService service = new DefaultProcessingService(
+				ProcessorRegistry.of(new HoppingConverter(), new PojoConverter()));
+		ProcessingPlan<TargetPojo, TargetPojo[]> plan = service.compile(TargetPojo.class, TargetPojo[].class);
+		Assertions.assertEquals(0, plan.getHopCount());
+
+		TargetPojo[] target = plan.process(new TargetPojo("id"));
+		Assertions.assertEquals("id", target[0].id);
+		Assertions.assertEquals("id", target[1].id);
+		Assertions.assertEquals(2, plan.getHopCount());
+
+		plan.process(new TargetPojo("id"));
+		Assertions.assertEquals(2, plan.getHopCount());
+	}
+
+	private static class PojoList extends ArrayList<TargetPojo> {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	private static class PojoMap extends HashMap<String, TargetPojo> {
+
+		private static final long serialVersionUID = 1L;
+	}
+
+	private static class ListConverter implements Converter<TargetPojo, PojoList> {
+
+		@Override
+		public PojoList toTarget(TargetPojo source, ProcessingDelegate context) throws Exception {
+			return context.processInto(Arrays.asList(new SourcePojo(source.id), new SubSourcePojo(source.id)),
+					new PojoList(), TargetPojo.class);
+		}
+	}
+
+	private static class MapConverter implements Converter<TargetPojo, PojoMap> {
+
+		@Override
+		public PojoMap toTarget(TargetPojo source, ProcessingDelegate context) throws Exception {
+			return (PojoMap) context.processInto(Collections.singletonMap(source.id, new SourcePojo(source.id)),
+					new PojoMap(), String.class, TargetPojo.class);
+		}
+	}
+
+	@Test
+	public void testCollectionHopRecording() {
+		DefaultProcessingService service = new DefaultProcessingService(
+				ProcessorRegistry.of(new ListConverter(), new MapConverter(), new PojoConverter()));
+		ProcessingPlan<TargetPojo, PojoList> listPlan = service.compile(TargetPojo.class, PojoList.class);
+		Assertions.assertEquals(2, listPlan.process(new TargetPojo("id")).size());
+		Assertions.assertEquals(2, listPlan.getHopCount());
+
+		ProcessingPlan<TargetPojo, PojoMap> mapPlan = service.compile(TargetPojo.class, PojoMap.class);
+		Assertions.assertEquals("id", mapPlan.process(new TargetPojo("id")).get("id").id);
+		Assertions.assertEquals(1, mapPlan.getHopCount());
+	}
+
+	@Test
+	public void testIdentityPlan() {
+		DefaultProcessingService service = new DefaultProcessingService(ProcessorRegistry.of());
+		TargetPojo source = new TargetPojo("id");
+		Assertions.assertSame(source, service.compile(TargetPojo.class, TargetPojo.class).process(source));
+		Assertions.assertThrows(NoProcessorException.class, () -> service.compile(SourcePojo.class, TargetPojo.class));
+	}
+
+	@Test
+	public void testRegistryChangeFallback() {
+		MutableProcessorRegistry registry = MutableProcessorRegistry.of(new HoppingConverter(), new PojoConverter());
+		DefaultProcessingService service = new DefaultProcessingService(registry);
+		ProcessingPlan<TargetPojo, TargetPojo[]> plan = service.compile(TargetPojo.class, TargetPojo[].class);
+
+		registry.replace(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+				return new TargetPojo("replaced");
+			}
+		});
+		Assertions.assertEquals("replaced", plan.process(new TargetPojo("id"))[0].id);
+		Assertions.assertEquals(0, plan.getHopCount());
+	}
+
+	private interface MiddleSink {
+
+		void id(String id);
+	}
+
+	private static class Middle {
+
+		private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+		private final String id;
+
+		Middle(String id) {
+			this.id = id;
+			INSTANCES.incrementAndGet();
+		}
+	}
+
+	private static class MiddleEmitter implements FusibleProcessors.Emitter<SourcePojo, Middle, MiddleSink> {
+
+		@Override
+		public Middle process(SourcePojo source, ProcessingDelegate context) throws Exception {
+			return source == null ? null : new Middle(source.id);
+		}
+
+		@Override
+		public void emit(SourcePojo source, MiddleSink sink, ProcessingDelegate context) throws Exception {
+			sink.id(source.id);
+		}
+	}
+
+	private static class MiddleBuilder implements MiddleSink {
+
+		private String id;
+
+		@Override
+		public void id(String id) {
+			this.id = id;
+		}
+	}
+
+	private static class BuildingCollector implements FusibleProcessors.Collector<Middle, TargetPojo, MiddleSink> {
+
+		@Override
+		public TargetPojo process(Middle source, ProcessingDelegate context) throws Exception {
+			return new TargetPojo(source.id);
+		}
+
+		@Override
+		public MiddleSink createSink(ProcessingDelegate context) {
+			return new MiddleBuilder();
+		}
+
+		@Override
+		public TargetPojo complete(MiddleSink sink, ProcessingDelegate context) throws Exception {
+			return new TargetPojo(((MiddleBuilder) sink).id);
+		}
+	}
+
+	private static class MiddleConverter implements Converter<Middle, TargetPojo> {
+
+		@Override
+		public TargetPojo toTarget(Middle source, ProcessingDelegate context) throws Exception {
+			return new TargetPojo(source.id);
+		}
+	}
+
+	@Test
+	public void testFusedPlan() {
+		DefaultProcessingService service = new DefaultProcessingService(
+				ProcessorRegistry.of(new MiddleEmitter(), new BuildingCollector()));
+		ProcessingPlan<SourcePojo, TargetPojo> plan = service.compile(SourcePojo.class, Middle.class, TargetPojo.class);
+
+		int instances = Middle.INSTANCES.get();
+		Assertions.assertEquals("id", plan.process(new SourcePojo("id")).id);
+		Assertions.assertEquals(instances, Middle.INSTANCES.get());
+		Assertions.assertNull(plan.process(null));
+	}
+
+	@Test
+	public void testChainedPlan() {
+		DefaultProcessingService service = new DefaultProcessingService(
+				ProcessorRegistry.of(new MiddleEmitter(), new MiddleConverter()));
+		ProcessingPlan<SourcePojo, TargetPojo> plan = service.compile(SourcePojo.class, Middle.class, TargetPojo.class);
+
+		int instances = Middle.INSTANCES.get();
+		Assertions.assertEquals("id", plan.process(new SourcePojo("id")).id);
+		Assertions.assertEquals(instances + 1, Middle.INSTANCES.get());
+	}
+
+	@Test
+	public void testFusedComposition() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(new MiddleEmitter(), new BuildingCollector())
+				.withComposeProcessors(true);
+
+		int instances = Middle.INSTANCES.get();
+		Assertions.assertEquals("id", registry.identifyProcessor(SourcePojo.class, TargetPojo.class)
+				.process(new SourcePojo("id"), null).id);
+		Assertions.assertEquals(instances, Middle.INSTANCES.get());
+	}
+}
@@ -0,0 +1,156 @@
+package com.mantledillusion.data.saman;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.mantledillusion.data.saman.exception.NoProcessorException;
+import com.mantledillusion.data.saman.exception.ProcessingException;
+import com.mantledillusion.data.saman.index.ProcessorIndexProcessor;
+import com.mantledillusion.data.saman.interfaces.BiConverter;
+import com.mantledillusion.data.saman.interfaces.Converter;
+import com.mantledillusion.data.saman.obj.SourcePojo;
+import com.mantledillusion.data.saman.obj.TargetPojo;
+
+public class ProcessorIndexTest {
+
+	private static final String CONVERTER_SOURCE = "package test;\n"
+			+ "import com.mantledillusion.data.saman.ProcessingDelegate;\n"
+			+ "import com.mantledillusion.data.saman.interfaces.BiConverter;\n"
+			+ "import com.mantledillusion.data.saman.obj.SourcePojo;\n"
+			+ "import com.mantledillusion.data.saman.obj.TargetPojo;\n"
+			+ "public class IndexedConverter implements BiConverter<SourcePojo, TargetPojo> {\n"
+			+ "    public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) { return new TargetPojo(source.id); }\n"
+			+ "    public SourcePojo toSource(TargetPojo target, ProcessingDelegate context) { return new SourcePojo(target.id); }\n"
+			+ "}\n";
+
+	private static final String ID = "_id";
+
+	@Test
+	public void testGeneratedIndex(@TempDir Path directory) throws Exception {
+		Path source = directory.resolve("test/IndexedConverter.java");
+		Files.createDirectories(source.getParent());
+		Files.write(source, CONVERTER_SOURCE.getBytes(StandardCharsets.UTF_8));
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		int result = compiler.run(null, null, null, "-classpath", System.getProperty("java.class.path"),
+				"-processor", ProcessorIndexProcessor.class.getName(), "-d", directory.toString(),
+				"-s", directory.toString(), source.toString());
+		Assertions.assertEquals(0, result);
+		Assertions.assertTrue(new File(directory.toFile(), "test/SamanProcessorIndex.java").exists());
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { directory.toUri().toURL() },
+				getClass().getClassLoader())) {
+			Iterator<ProcessorIndex> indexes = ServiceLoader.load(ProcessorIndex.class, classLoader).iterator();
+			Assertions.assertTrue(indexes.hasNext());
+			ProcessorIndex index = indexes.next();
+			Assertions.assertEquals(1, index.getEntries().size());
+			Assertions.assertTrue(index.getEntries().get(0).isBidirectional());
+
+			ProcessingService service = new DefaultProcessingService(ProcessorRegistry.ofIndex(index));
+			Assertions.assertEquals(ID, service.process(new SourcePojo(ID), TargetPojo.class).id);
+			Assertions.assertEquals(ID, service.process(new TargetPojo(ID), SourcePojo.class).id);
+
+			ProcessingService discoveredService = new DefaultProcessingService(ProcessorRegistry.ofDiscovered(classLoader));
+			Assertions.assertEquals(ID, discoveredService.process(new SourcePojo(ID), TargetPojo.class).id);
+		}
+	}
+
+	@Test
+	public void testManualIndex() {
+		ProcessorIndex index = () -> Collections.singletonList(new ProcessorIndex.Entry(SourcePojo.class,
+				TargetPojo.class, false, () -> new BiConverter<SourcePojo, TargetPojo>() {
+
+					@Override
+					public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+						return new TargetPojo(source.id);
+					}
+
+					@Override
+					public SourcePojo toSource(TargetPojo target, ProcessingDelegate context) throws Exception {
+						return new SourcePojo(target.id);
+					}
+				}));
+
+		ProcessingService service = new DefaultProcessingService(ProcessorRegistry.ofIndex(Arrays.asList(index, null)));
+		Assertions.assertEquals(ID, service.process(new SourcePojo(ID), TargetPojo.class).id);
+		Assertions.assertThrows(NoProcessorException.class, () -> service.process(new TargetPojo(ID), SourcePojo.class));
+	}
+
+	@Test
+	public void testLazyInstantiation() {
+		AtomicInteger instantiations = new AtomicInteger();
+		ProcessorRegistry registry = ProcessorRegistry.ofIndex(ProcessorIndex.of(
+				ProcessorIndex.Entry.ofBidirectional(SourcePojo.class, TargetPojo.class, () -> {
+					instantiations.incrementAndGet();
+					return new BiConverter<SourcePojo, TargetPojo>() {
+
+						@Override
+						public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+							return new TargetPojo(source.id);
+						}
+
+						@Override
+						public SourcePojo toSource(TargetPojo target, ProcessingDelegate context) throws Exception {
+							return new SourcePojo(target.id);
+						}
+					};
+				}),
+				ProcessorIndex.Entry.of(String.class, TargetPojo.class, () -> null)));
+		Assertions.assertEquals(0, instantiations.get());
+
+		ProcessingService service = new DefaultProcessingService(registry);
+		Assertions.assertEquals(ID, service.process(new TargetPojo(ID), SourcePojo.class).id);
+		Assertions.assertEquals(ID, service.process(new SourcePojo(ID), TargetPojo.class).id);
+		Assertions.assertEquals(1, instantiations.get());
+
+		Assertions.assertThrows(ProcessingException.class, () -> service.process(ID, TargetPojo.class));
+	}
+
+	@Test
+	public void testWarmUp() {
+		AtomicInteger instantiations = new AtomicInteger();
+		ProcessorRegistry registry = ProcessorRegistry.ofIndex(ProcessorIndex.of(
+				ProcessorIndex.Entry.of(SourcePojo.class, TargetPojo.class, () -> {
+					instantiations.incrementAndGet();
+					return (source, context) -> new TargetPojo(source.id);
+				}),
+				ProcessorIndex.Entry.of(String.class, TargetPojo.class, () -> null)));
+
+		WarmUpReport report = registry.warmUp(WarmUpReport.Pair.ofNamed(TimeUnit.class, TimeUnit.class));
+		Assertions.assertEquals(1, instantiations.get());
+		Assertions.assertEquals(3, report.getEntries().size());
+		Assertions.assertFalse(report.isSuccessful());
+		Assertions.assertNull(report.getEntries().get(0).getFailure());
+		Assertions.assertTrue(report.getEntries().get(1).getFailure() instanceof ProcessingException);
+		Assertions.assertNull(report.getEntries().get(2).getFailure());
+
+		ProcessorRegistry replayed = ProcessorRegistry.of(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+				return new TargetPojo(source.id);
+			}
+		});
+		Assertions.assertTrue(replayed.warmUp(registry.getResolvedPairs()).isSuccessful());
+		Assertions.assertEquals(new HashSet<>(Arrays.asList(WarmUpReport.Pair.of(SourcePojo.class, TargetPojo.class),
+				WarmUpReport.Pair.ofNamed(TimeUnit.class, TimeUnit.class))), new HashSet<>(replayed.getResolvedPairs()));
+	}
+}
@@ -1,10 +1,19 @@
 package com.mantledillusion.data.saman;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import com.mantledillusion.data.saman.ProcessingService.Processor;
 import com.mantledillusion.data.saman.exception.AmbiguousProcessorException;
+import com.mantledillusion.data.saman.exception.NoProcessorException;
+import com.mantledillusion.data.saman.exception.ProcessingException;
 import com.mantledillusion.data.saman.exception.ProcessorTypeException;
+import com.mantledillusion.data.saman.interfaces.BiConverter;
 import com.mantledillusion.data.saman.interfaces.Converter;
 import com.mantledillusion.data.saman.obj.SourcePojo;
 import com.mantledillusion.data.saman.obj.TargetPojo;
@@ -38,4 +47,488 @@ public class ProcessorRegistryTest {
 			}
 		}));
 	}
+
+	@Test
+	public void testCachedResolution() {
+		ProcessorRegistry registry = ProcessorRegistry.of(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return null;
+			}
+		});
+
+		class SubSourcePojo extends SourcePojo {
+
+			SubSourcePojo() {
+				super(null);
+			}
+		}
+		Assertions.assertSame(registry.identifyProcessor(SubSourcePojo.class, TargetPojo.class),
+				registry.identifyProcessor(SubSourcePojo.class, TargetPojo.class));
+		Assertions.assertSame(registry.identifyProcessor(SourcePojo.class, TargetPojo.class),
+				registry.identifyProcessor(SubSourcePojo.class, TargetPojo.class));
+	}
+
+	@Test
+	public void testCachedMissingResolution() {
+		ProcessorRegistry registry = ProcessorRegistry.of();
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, TargetPojo.class));
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, TargetPojo.class));
+	}
+
+	private interface SourceInterface {}
+
+	private interface SubSourceInterface extends SourceInterface {}
+
+	private static class InterfacedSourcePojo extends SourcePojo implements SubSourceInterface {
+
+		InterfacedSourcePojo() {
+			super(null);
+		}
+	}
+
+	@Test
+	public void testInterfaceResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(new Converter<SourceInterface, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourceInterface source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo(SourceInterface.class.getSimpleName());
+			}
+		});
+		Assertions.assertEquals(SourceInterface.class.getSimpleName(), registry
+				.identifyProcessor(InterfacedSourcePojo.class, TargetPojo.class).process(null, null).id);
+		Assertions.assertEquals(SourceInterface.class.getSimpleName(), registry
+				.identifyProcessor(SubSourceInterface.class, TargetPojo.class).process(null, null).id);
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, TargetPojo.class));
+	}
+
+	@Test
+	public void testSuperClassPrecedesInterfaceResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo(SourcePojo.class.getSimpleName());
+			}
+		}, new Converter<SourceInterface, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourceInterface source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo(SourceInterface.class.getSimpleName());
+			}
+		});
+		Assertions.assertEquals(SourcePojo.class.getSimpleName(), registry
+				.identifyProcessor(InterfacedSourcePojo.class, TargetPojo.class).process(null, null).id);
+	}
+
+	@Test
+	public void testObjectResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(new Converter<Object, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(Object source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo(Object.class.getSimpleName());
+			}
+		});
+		Assertions.assertEquals(Object.class.getSimpleName(), registry
+				.identifyProcessor(SourceInterface.class, TargetPojo.class).process(null, null).id);
+		Assertions.assertEquals(Object.class.getSimpleName(), registry
+				.identifyProcessor(Object.class, TargetPojo.class).process(null, null).id);
+	}
+
+	@Test
+	public void testParallelAmbiguousConverters() {
+		Assertions.assertThrows(AmbiguousProcessorException.class, () -> ProcessorRegistry.ofParallel(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return null;
+			}
+		}, null, new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return null;
+			}
+		}));
+	}
+
+	@Test
+	public void testParallelResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.ofParallel(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo(SourcePojo.class.getSimpleName());
+			}
+		}, new Converter<TargetPojo, SourcePojo>() {
+
+			@Override
+			public SourcePojo toTarget(TargetPojo source, ProcessingDelegate service) throws Exception {
+				return new SourcePojo(TargetPojo.class.getSimpleName());
+			}
+		});
+		Assertions.assertEquals(SourcePojo.class.getSimpleName(), registry
+				.identifyProcessor(SourcePojo.class, TargetPojo.class).process(null, null).id);
+		Assertions.assertEquals(TargetPojo.class.getSimpleName(), registry
+				.identifyProcessor(TargetPojo.class, SourcePojo.class).process(null, null).id);
+	}
+
+	@Test
+	public void testChildResolution() throws Exception {
+		ProcessorRegistry parent = ProcessorRegistry.of(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo("parent");
+			}
+		}, new Converter<TargetPojo, SourcePojo>() {
+
+			@Override
+			public SourcePojo toTarget(TargetPojo source, ProcessingDelegate service) throws Exception {
+				return new SourcePojo("parent");
+			}
+		});
+		ProcessorRegistry child = ProcessorRegistry.of(parent, new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo("child");
+			}
+		});
+
+		Assertions.assertEquals("child", child.identifyProcessor(SourcePojo.class, TargetPojo.class).process(null, null).id);
+		Assertions.assertEquals("parent", child.identifyProcessor(TargetPojo.class, SourcePojo.class).process(null, null).id);
+		Assertions.assertEquals("parent", parent.identifyProcessor(SourcePojo.class, TargetPojo.class).process(null, null).id);
+	}
+
+	@Test
+	public void testChildSpecificityResolution() throws Exception {
+		class SubSourcePojo extends SourcePojo {
+
+			SubSourcePojo() {
+				super(null);
+			}
+		}
+
+		ProcessorRegistry parent = ProcessorRegistry.of(new Converter<SubSourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SubSourcePojo source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo("parent");
+			}
+		});
+		ProcessorRegistry child = ProcessorRegistry.of(parent, new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo("child");
+			}
+		});
+
+		Assertions.assertEquals("parent", child.identifyProcessor(SubSourcePojo.class, TargetPojo.class).process(null, null).id);
+		Assertions.assertEquals("child", child.identifyProcessor(SourcePojo.class, TargetPojo.class).process(null, null).id);
+	}
+
+	@Test
+	public void testComposedResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(new Converter<SourcePojo, Integer>() {
+
+			@Override
+			public Integer toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return source.id.length();
+			}
+		}, new Converter<Integer, Long>() {
+
+			@Override
+			public Long toTarget(Integer source, ProcessingDelegate service) throws Exception {
+				return source.longValue();
+			}
+		}, new Converter<Long, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(Long source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo("long");
+			}
+		}, new Converter<SourcePojo, String>() {
+
+			@Override
+			public String toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return source.id;
+			}
+		}, new Converter<CharSequence, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(CharSequence source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo(source.toString());
+			}
+		});
+		Assertions.assertFalse(registry.doComposeProcessors());
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, TargetPojo.class));
+
+		ProcessorRegistry composing = registry.withComposeProcessors(true);
+		Assertions.assertTrue(composing.doComposeProcessors());
+		Processor<SourcePojo, TargetPojo> processor = composing.identifyProcessor(SourcePojo.class, TargetPojo.class);
+		Assertions.assertSame(processor, composing.identifyProcessor(SourcePojo.class, TargetPojo.class));
+		Assertions.assertEquals("id", processor.process(new SourcePojo("id"), null).id);
+		Assertions.assertNull(processor.process(new SourcePojo(null), null));
+		Assertions.assertEquals(3L, composing.identifyProcessor(SourcePojo.class, long.class).process(new SourcePojo("id_"), null));
+		Assertions.assertThrows(NoProcessorException.class, () -> composing.identifyProcessor(TargetPojo.class, SourcePojo.class));
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, TargetPojo.class));
+	}
+
+	@Test
+	public void testChildComposedResolution() throws Exception {
+		ProcessorRegistry parent = ProcessorRegistry.of(new Converter<SourcePojo, Integer>() {
+
+			@Override
+			public Integer toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return source.id.length();
+			}
+		}).withComposeProcessors(true).withResolveTargetSubTypes(true);
+		ProcessorRegistry child = ProcessorRegistry.of(parent, new Converter<Integer, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(Integer source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo(String.valueOf(source));
+			}
+		});
+
+		Assertions.assertTrue(child.doComposeProcessors());
+		Assertions.assertTrue(child.doResolveTargetSubTypes());
+		Assertions.assertEquals("2", child.identifyProcessor(SourcePojo.class, TargetPojo.class).process(new SourcePojo("id"), null).id);
+		Assertions.assertEquals(2, child.identifyProcessor(SourcePojo.class, Number.class).process(new SourcePojo("id"), null));
+	}
+
+	@Test
+	public void testComposedIdentityResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(new Converter<Integer, Long>() {
+
+			@Override
+			public Long toTarget(Integer source, ProcessingDelegate service) throws Exception {
+				return source.longValue();
+			}
+		}).withComposeProcessors(true);
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(Integer.class, int.class));
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(String.class, String.class));
+		Assertions.assertFalse(registry.warmUp(WarmUpReport.Pair.of(String.class, String.class)).isSuccessful());
+		Assertions.assertEquals(5L, registry.identifyProcessor(Integer.class, long.class).process(5, null));
+	}
+
+	private interface TargetInterface {}
+
+	private static class InterfacedTargetPojo extends TargetPojo implements TargetInterface {
+
+		InterfacedTargetPojo(String id) {
+			super(id);
+		}
+	}
+
+	private static class SubInterfacedTargetPojo extends InterfacedTargetPojo {
+
+		SubInterfacedTargetPojo(String id) {
+			super(id);
+		}
+	}
+
+	@Test
+	public void testTargetSubTypeResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(new Converter<SourcePojo, SubInterfacedTargetPojo>() {
+
+			@Override
+			public SubInterfacedTargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return new SubInterfacedTargetPojo("sub");
+			}
+		}, new Converter<SourcePojo, InterfacedTargetPojo>() {
+
+			@Override
+			public InterfacedTargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return new InterfacedTargetPojo("interfaced");
+			}
+		}, new Converter<SourceInterface, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourceInterface source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo("interface");
+			}
+		});
+		Assertions.assertFalse(registry.doResolveTargetSubTypes());
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, TargetInterface.class));
+
+		ProcessorRegistry resolving = registry.withResolveTargetSubTypes(true);
+		Assertions.assertTrue(resolving.doResolveTargetSubTypes());
+		Processor<SourcePojo, TargetInterface> processor = resolving.identifyProcessor(SourcePojo.class, TargetInterface.class);
+		Assertions.assertSame(processor, resolving.identifyProcessor(SourcePojo.class, TargetInterface.class));
+		Assertions.assertEquals("interfaced", ((TargetPojo) processor.process(null, null)).id);
+		Assertions.assertEquals("interfaced", resolving.identifyProcessor(SourcePojo.class, TargetPojo.class).process(null, null).id);
+		Assertions.assertEquals("interface", resolving.identifyProcessor(InterfacedSourcePojo.class, TargetPojo.class).process(null, null).id);
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, TargetInterface.class));
+	}
+
+	@Test
+	public void testAmbiguousTargetSubTypeResolution() {
+		ProcessorRegistry registry = ProcessorRegistry.of(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return null;
+			}
+		}, new Converter<SourcePojo, String>() {
+
+			@Override
+			public String toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return null;
+			}
+		}).withResolveTargetSubTypes(true);
+		Assertions.assertThrows(AmbiguousProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, Object.class));
+		Assertions.assertThrows(AmbiguousProcessorException.class, () -> registry.identifyProcessor(SourcePojo.class, Object.class));
+		Assertions.assertTrue(registry.getResolvedPairs().isEmpty());
+	}
+
+	@Test
+	public void testUnwrappedResolution() throws Exception {
+		BiConverter<SourcePojo, TargetPojo> converter = new BiConverter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return new TargetPojo(source.id);
+			}
+
+			@Override
+			public SourcePojo toSource(TargetPojo target, ProcessingDelegate service) throws Exception {
+				return new SourcePojo(target.id);
+			}
+		};
+		ProcessorRegistry registry = ProcessorRegistry.of(converter);
+		Assertions.assertSame(converter, registry.identifyProcessor(SourcePojo.class, TargetPojo.class));
+		Assertions.assertEquals("id", registry.identifyProcessor(TargetPojo.class, SourcePojo.class).process(new TargetPojo("id"), null).id);
+	}
+
+	@Test
+	public void testGuardedResolution() throws Exception {
+		Function<SourcePojo, String> region = source -> source.id.substring(0, 2);
+		ProcessorRegistry registry = ProcessorRegistry.of(
+				GuardedProcessor.on(SourcePojo.class, TargetPojo.class, region, "EU", (source, context) -> new TargetPojo("eu")),
+				GuardedProcessor.on(SourcePojo.class, TargetPojo.class, region, "US", (source, context) -> new TargetPojo("us")),
+				GuardedProcessor.when(SourcePojo.class, TargetPojo.class, source -> source.id.endsWith("!"), (source, context) -> new TargetPojo("loud")));
+
+		Processor<SourcePojo, TargetPojo> processor = registry.identifyProcessor(SourcePojo.class, TargetPojo.class);
+		Assertions.assertEquals("eu", processor.process(new SourcePojo("EU-1"), null).id);
+		Assertions.assertEquals("us", processor.process(new SourcePojo("US-1!"), null).id);
+		Assertions.assertEquals("loud", processor.process(new SourcePojo("AS-1!"), null).id);
+		Assertions.assertNull(processor.process(null, null));
+		Assertions.assertThrows(ProcessingException.class, () -> processor.process(new SourcePojo("AS-1"), null));
+	}
+
+	@Test
+	public void testGuardedFallbackResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(
+				GuardedProcessor.when(SourcePojo.class, TargetPojo.class, source -> source.id.isEmpty(), (source, context) -> new TargetPojo("empty")),
+				new BiConverter<SourcePojo, TargetPojo>() {
+
+					@Override
+					public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+						return new TargetPojo(source == null ? null : source.id);
+					}
+
+					@Override
+					public SourcePojo toSource(TargetPojo target, ProcessingDelegate context) throws Exception {
+						return new SourcePojo(target.id);
+					}
+				});
+
+		Assertions.assertEquals("empty", registry.identifyProcessor(SourcePojo.class, TargetPojo.class).process(new SourcePojo(""), null).id);
+		Assertions.assertEquals("id", registry.identifyProcessor(SourcePojo.class, TargetPojo.class).process(new SourcePojo("id"), null).id);
+		Assertions.assertEquals("id", registry.identifyProcessor(TargetPojo.class, SourcePojo.class).process(new TargetPojo("id"), null).id);
+
+		Function<SourcePojo, String> id = source -> source.id;
+		Assertions.assertThrows(AmbiguousProcessorException.class, () -> ProcessorRegistry.of(
+				GuardedProcessor.on(SourcePojo.class, TargetPojo.class, id, "a", (source, context) -> null),
+				GuardedProcessor.on(SourcePojo.class, TargetPojo.class, id, "a", (source, context) -> null)));
+	}
+
+	@Test
+	public void testVersionedResolution() {
+		ProcessingService service = new DefaultProcessingService(ProcessorRegistry.of(
+				VersionedProcessor.of(SourcePojo.class, TargetPojo.class, "1", (source, context) -> new TargetPojo("v1")),
+				VersionedProcessor.of(SourcePojo.class, TargetPojo.class, "2", (source, context) -> new TargetPojo("v2")),
+				new Converter<SourcePojo, TargetPojo>() {
+
+					@Override
+					public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+						return new TargetPojo("current");
+					}
+				}));
+
+		SourcePojo source = new SourcePojo("id");
+		Assertions.assertEquals("v1", service.process(source, TargetPojo.class, ProcessingContext.of(VersionedProcessor.Version.of("1"))).id);
+		Assertions.assertEquals("v2", service.process(source, TargetPojo.class, ProcessingContext.of(VersionedProcessor.Version.of("2"))).id);
+		Assertions.assertEquals("current", service.process(source, TargetPojo.class, ProcessingContext.of(VersionedProcessor.Version.of("3"))).id);
+		Assertions.assertEquals("current", service.process(source, TargetPojo.class).id);
+
+		Assertions.assertThrows(AmbiguousProcessorException.class, () -> ProcessorRegistry.of(
+				VersionedProcessor.of(SourcePojo.class, TargetPojo.class, "1", (s, context) -> null),
+				VersionedProcessor.of(SourcePojo.class, TargetPojo.class, "1", (s, context) -> null)));
+	}
+
+	@Test
+	public void testGenericTargetResolution() {
+		ProcessingService service = new DefaultProcessingService(ProcessorRegistry.of(new Converter<SourcePojo, List<String>>() {
+
+			@Override
+			public List<String> toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+				return Collections.singletonList(source.id);
+			}
+		}, new Converter<SourcePojo, List<TargetPojo>>() {
+
+			@Override
+			public List<TargetPojo> toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+				return Collections.singletonList(new TargetPojo(source.id));
+			}
+		}, new Converter<SourcePojo, Set<String>>() {
+
+			@Override
+			public Set<String> toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+				return Collections.singleton(source.id);
+			}
+		}));
+
+		SourcePojo source = new SourcePojo("id");
+		Assertions.assertEquals("id", service.processGeneric(source, new TypeToken<List<String>>() {}).get(0));
+		Assertions.assertEquals("id", service.processGeneric(source, new TypeToken<List<TargetPojo>>() {}).get(0).id);
+		Assertions.assertEquals("id", service.processGeneric(new SourcePojo("id") {}, new TypeToken<List<TargetPojo>>() {}).get(0).id);
+		Assertions.assertThrows(NoProcessorException.class, () -> service.processGeneric(source, new TypeToken<List<Integer>>() {}));
+		Assertions.assertThrows(NoProcessorException.class, () -> service.process(source, List.class));
+		Assertions.assertEquals(Collections.singleton("id"), service.process(source, Set.class));
+		Assertions.assertEquals(new TypeToken<List<String>>() {}, new TypeToken<List<String>>() {});
+	}
+
+	@Test
+	public void testGenericReverseResolution() throws Exception {
+		ProcessorRegistry registry = ProcessorRegistry.of(new BiConverter<String, List<Integer>>() {
+
+			@Override
+			public List<Integer> toTarget(String source, ProcessingDelegate context) throws Exception {
+				return Collections.singletonList(Integer.valueOf(source));
+			}
+
+			@Override
+			public String toSource(List<Integer> target, ProcessingDelegate context) throws Exception {
+				return "integers";
+			}
+		}, new Converter<List<Long>, String>() {
+
+			@Override
+			public String toTarget(List<Long> source, ProcessingDelegate context) throws Exception {
+				return "longs";
+			}
+		});
+
+		Assertions.assertEquals(Collections.singletonList(1), registry.identifyProcessor(String.class, List.class).process("1", null));
+		Assertions.assertEquals("integers", registry.identifyProcessor(new TypeToken<List<Integer>>() {}.getType(), String.class).process(null, null));
+		Assertions.assertEquals("longs", registry.identifyProcessor(new TypeToken<List<Long>>() {}.getType(), String.class).process(null, null));
+		Assertions.assertThrows(NoProcessorException.class, () -> registry.identifyProcessor(List.class, String.class));
+	}
 }
@@ -0,0 +1,259 @@
+package com.mantledillusion.data.saman;
+
+import java.beans.ConstructorProperties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.mantledillusion.data.saman.exception.ProcessingException;
+import com.mantledillusion.data.saman.interfaces.Converter;
+import com.mantledillusion.data.saman.mapping.BuilderConverter;
+import com.mantledillusion.data.saman.mapping.ConstructorConverter;
+import com.mantledillusion.data.saman.mapping.PropertyConverter;
+import com.mantledillusion.data.saman.obj.SourcePojo;
+import com.mantledillusion.data.saman.obj.TargetPojo;
+
+public class PropertyMappingTest {
+
+	public static class SourceBean {
+
+		private String name;
+		private int count;
+		private boolean active;
+		private SourcePojo nested;
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getCount() {
+			return count;
+		}
+
+		public void setCount(int count) {
+			this.count = count;
+		}
+
+		public boolean isActive() {
+			return active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public SourcePojo getNested() {
+			return nested;
+		}
+
+		public void setNested(SourcePojo nested) {
+			this.nested = nested;
+		}
+	}
+
+	public static class TargetBean {
+
+		private String name;
+		private long count;
+		private Boolean active;
+		private TargetPojo nested;
+		private String untouched = "untouched";
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public void setCount(long count) {
+			this.count = count;
+		}
+
+		public Boolean getActive() {
+			return active;
+		}
+
+		public void setActive(Boolean active) {
+			this.active = active;
+		}
+
+		public TargetPojo getNested() {
+			return nested;
+		}
+
+		public void setNested(TargetPojo nested) {
+			this.nested = nested;
+		}
+
+		public String getUntouched() {
+			return untouched;
+		}
+
+		public void setUntouched(String untouched) {
+			this.untouched = untouched;
+		}
+	}
+
+	public static class UnconstructableBean {
+
+		public UnconstructableBean(String name) {
+		}
+	}
+
+	@Test
+	public void testPropertyMapping() {
+		ProcessingService service = new DefaultProcessingService(ProcessorRegistry.of(
+				PropertyConverter.of(SourceBean.class, TargetBean.class),
+				new Converter<SourcePojo, TargetPojo>() {
+
+					@Override
+					public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+						return new TargetPojo(source.id);
+					}
+				}));
+
+		SourceBean source = new SourceBean();
+		source.setName("name");
+		source.setCount(42);
+		source.setActive(true);
+		source.setNested(new SourcePojo("id"));
+
+		TargetBean target = service.process(source, TargetBean.class);
+		Assertions.assertEquals("name", target.getName());
+		Assertions.assertEquals(42L, target.getCount());
+		Assertions.assertEquals(Boolean.TRUE, target.getActive());
+		Assertions.assertEquals("id", target.getNested().id);
+		Assertions.assertEquals("untouched", target.getUntouched());
+	}
+
+	@Test
+	public void testNullMapping() throws Exception {
+		Assertions.assertNull(PropertyConverter.of(SourceBean.class, TargetBean.class).toTarget(null, null));
+	}
+
+	@Test
+	public void testUnconstructableTarget() {
+		Assertions.assertThrows(ProcessingException.class,
+				() -> PropertyConverter.of(SourceBean.class, UnconstructableBean.class));
+	}
+
+	public static class ImmutableBean {
+
+		private final String name;
+		private final long count;
+		private final TargetPojo nested;
+		private final String missing;
+
+		@ConstructorProperties({ "name", "count", "nested", "missing" })
+		public ImmutableBean(String name, long count, TargetPojo nested, String missing) {
+			this.name = name;
+			this.count = count;
+			this.nested = nested;
+			this.missing = missing;
+		}
+	}
+
+	public static class BuiltBean {
+
+		private final String name;
+		private final long count;
+		private final boolean active;
+
+		private BuiltBean(String name, long count, boolean active) {
+			this.name = name;
+			this.count = count;
+			this.active = active;
+		}
+
+		public static Builder builder() {
+			return new Builder(null, 0, false);
+		}
+
+		public static class Builder {
+
+			private final String name;
+			private final long count;
+			private boolean active;
+
+			private Builder(String name, long count, boolean active) {
+				this.name = name;
+				this.count = count;
+				this.active = active;
+			}
+
+			public Builder name(String name) {
+				return new Builder(name, this.count, this.active);
+			}
+
+			public Builder withCount(long count) {
+				return new Builder(this.name, count, this.active);
+			}
+
+			public void setActive(boolean active) {
+				this.active = active;
+			}
+
+			public BuiltBean build() {
+				return new BuiltBean(this.name, this.count, this.active);
+			}
+		}
+	}
+
+	private static SourceBean createSource() {
+		SourceBean source = new SourceBean();
+		source.setName("name");
+		source.setCount(42);
+		source.setActive(true);
+		source.setNested(new SourcePojo("id"));
+		return source;
+	}
+
+	@Test
+	public void testConstructorMapping() {
+		ProcessingService service = new DefaultProcessingService(ProcessorRegistry.of(
+				ConstructorConverter.of(SourceBean.class, ImmutableBean.class),
+				new Converter<SourcePojo, TargetPojo>() {
+
+					@Override
+					public TargetPojo toTarget(SourcePojo source, ProcessingDelegate context) throws Exception {
+						return new TargetPojo(source.id);
+					}
+				}));
+
+		ImmutableBean target = service.process(createSource(), ImmutableBean.class);
+		Assertions.assertEquals("name", target.name);
+		Assertions.assertEquals(42L, target.count);
+		Assertions.assertEquals("id", target.nested.id);
+		Assertions.assertNull(target.missing);
+		Assertions.assertNull(service.process(null, ImmutableBean.class));
+	}
+
+	@Test
+	public void testUnmappableConstructor() {
+		Assertions.assertThrows(ProcessingException.class,
+				() -> ConstructorConverter.of(SourceBean.class, UnconstructableBean.class));
+	}
+
+	@Test
+	public void testBuilderMapping() {
+		ProcessingService service = new DefaultProcessingService(ProcessorRegistry.of(
+				BuilderConverter.of(SourceBean.class, BuiltBean.class)));
+
+		BuiltBean target = service.process(createSource(), BuiltBean.class);
+		Assertions.assertEquals("name", target.name);
+		Assertions.assertEquals(42L, target.count);
+		Assertions.assertTrue(target.active);
+		Assertions.assertThrows(ProcessingException.class,
+				() -> BuilderConverter.of(SourceBean.class, TargetBean.class));
+	}
+}
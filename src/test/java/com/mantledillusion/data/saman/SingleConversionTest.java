@@ -1,5 +1,8 @@
 package com.mantledillusion.data.saman;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import com.mantledillusion.data.saman.exception.ProcessingException;
@@ -80,4 +83,59 @@ public class SingleConversionTest extends AbstractConversionTest {
 		service.setWrapRuntimeExceptions(false);
 		Assertions.assertThrows(RuntimeException.class, () -> service.process(SOURCE_A, TargetPojo.class));
 	}
+
+	@Test
+	public void testFlatProcessorException() {
+		Exception cause = new Exception();
+		DefaultProcessingService service = new DefaultProcessingService(ProcessorRegistry.of(new Converter<SourcePojo, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(SourcePojo source, ProcessingDelegate service) throws Exception {
+				return service.process(source.id, TargetPojo.class);
+			}
+		}, new Converter<String, TargetPojo>() {
+
+			@Override
+			public TargetPojo toTarget(String source, ProcessingDelegate service) throws Exception {
+				throw cause;
+			}
+		}));
+		service.setCaptureStackTraces(false);
+
+		ProcessorException e = Assertions.assertThrows(ProcessorException.class, () -> service.process(SOURCE_A, TargetPojo.class));
+		Assertions.assertSame(cause, e.getCause());
+		Assertions.assertEquals(0, e.getStackTrace().length);
+		Assertions.assertEquals(2, e.getHops().size());
+		Assertions.assertEquals(SourcePojo.class, e.getHops().get(0).getSourceType());
+		Assertions.assertEquals(String.class, e.getHops().get(1).getSourceType());
+		Assertions.assertEquals(TargetPojo.class, e.getHops().get(1).getTargetType());
+	}
+
+	@Test
+	public void testInterceptedConversion() {
+		List<String> interceptions = new ArrayList<>();
+		List<String> invocations = new ArrayList<>();
+		DefaultProcessingService service = (DefaultProcessingService) this.service;
+		service.addInterceptor(new ProcessingInterceptor() {
+
+			@Override
+			public <S, T> ProcessingService.Processor<S, T> intercept(Class<S> sourceType, Class<T> targetType, ProcessingService.Processor<S, T> processor) {
+				interceptions.add(sourceType.getSimpleName());
+				if (sourceType != SourcePojo.class) {
+					return processor;
+				}
+				return (source, context) -> {
+					invocations.add(String.valueOf(source));
+					return processor.process(source, context);
+				};
+			}
+		});
+
+		Assertions.assertEquals(TEST_ID_A, service.process(SOURCE_A, TargetPojo.class).id);
+		Assertions.assertEquals(TEST_ID_B, service.process(SOURCE_B, TargetPojo.class).id);
+		Assertions.assertEquals(TEST_ID_A, service.process(TARGET_A, SourcePojo.class).id);
+		Assertions.assertEquals(TEST_ID_A, service.compile(SourcePojo.class, TargetPojo.class).process(SOURCE_A).id);
+		Assertions.assertEquals(3, invocations.size());
+		Assertions.assertEquals(2, interceptions.size());
+	}
 }